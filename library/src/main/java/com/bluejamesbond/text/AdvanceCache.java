@@ -0,0 +1,338 @@
+package com.bluejamesbond.text;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * AdvanceCache.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.os.Build;
+import android.text.TextUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Process-wide LRU cache of word advances, shared by all layouts. Keyed by
+ * everything in the paint that changes the advance and the characters, and
+ * bounded by an approximate memory budget. Split into shards by key hash so
+ * parallel measures and renders rarely wait on each other.
+ */
+public class AdvanceCache {
+
+    private static final int DEFAULT_MEMORY_BUDGET = 512 * 1024;
+    private static final int MAX_WORD_LENGTH = 48;
+
+    // Each shard is an LRU with its part of the budget
+    private static final int SHARD_BITS = 4;
+    private static final int SHARD_COUNT = 1 << SHARD_BITS;
+
+    // Approximate size of an entry without its characters
+    private static final int ENTRY_OVERHEAD = 112;
+
+    private static final Shard[] shards;
+    private static volatile int memoryBudget;
+
+    // Key to look up with, hashed outside of the shard locks
+    private static final ThreadLocal<Key> lookup = new ThreadLocal<Key>() {
+        @Override
+        protected Key initialValue() {
+            return new Key();
+        }
+    };
+
+    static {
+        shards = new Shard[SHARD_COUNT];
+        memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    private AdvanceCache() {
+    }
+
+    public static float measureText(Paint paint, char[] text, int start, int count) {
+        if (count > MAX_WORD_LENGTH || memoryBudget == 0) {
+            return paint.measureText(text, start, count);
+        }
+
+        Key key = lookup.get();
+        key.set(paint, text, null, start, count);
+        Float advance = get(key);
+
+        if (advance != null) {
+            return advance;
+        }
+
+        advance = paint.measureText(text, start, count);
+        char[] chars = new char[count];
+        System.arraycopy(text, start, chars, 0, count);
+        put(paint, chars, advance);
+        return advance;
+    }
+
+    public static float measureText(Paint paint, CharSequence text, int start, int end) {
+        int count = end - start;
+
+        if (count > MAX_WORD_LENGTH || memoryBudget == 0) {
+            return paint.measureText(text, start, end);
+        }
+
+        // Hashed straight from the text, only copied on a miss
+        Key key = lookup.get();
+        key.set(paint, null, text, start, count);
+        Float advance = get(key);
+
+        if (advance != null) {
+            return advance;
+        }
+
+        advance = paint.measureText(text, start, end);
+        char[] chars = new char[count];
+        TextUtils.getChars(text, start, end, chars, 0);
+        put(paint, chars, advance);
+        return advance;
+    }
+
+    public static float measureText(Paint paint, String text) {
+        return measureText(paint, text, 0, text.length());
+    }
+
+    private static Shard getShard(int hash) {
+        // Top bits of a multiplicative hash, the low bits are
+        // left to pick the buckets inside the shard
+        return shards[(hash * 0x9E3779B9) >>> (32 - SHARD_BITS)];
+    }
+
+    private static Float get(Key key) {
+        Shard shard = getShard(key.hash);
+        Float advance;
+
+        synchronized (shard) {
+            advance = shard.cache.get(key);
+
+            if (advance != null) {
+                shard.hits++;
+            } else {
+                shard.misses++;
+            }
+        }
+
+        // Don't hold on to the caller's text
+        key.chars = null;
+        key.text = null;
+
+        return advance;
+    }
+
+    private static void put(Paint paint, char[] chars, float advance) {
+        Key key = new Key();
+        key.set(paint, chars, null, 0, chars.length);
+        Shard shard = getShard(key.hash);
+
+        synchronized (shard) {
+            if (shard.cache.put(key, advance) == null) {
+                shard.memoryUsed += ENTRY_OVERHEAD + chars.length * 2;
+            }
+
+            shard.trimToBudget(memoryBudget / SHARD_COUNT);
+        }
+    }
+
+    public static int getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Approximate bytes the cache may use, 0 turns it off
+     */
+    public static void setMemoryBudget(int memoryBudget) {
+        AdvanceCache.memoryBudget = Math.max(0, memoryBudget);
+
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.trimToBudget(AdvanceCache.memoryBudget / SHARD_COUNT);
+            }
+        }
+    }
+
+    public static int getMemoryUsed() {
+        int memoryUsed = 0;
+
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                memoryUsed += shard.memoryUsed;
+            }
+        }
+
+        return memoryUsed;
+    }
+
+    public static long getHitCount() {
+        long hits = 0;
+
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                hits += shard.hits;
+            }
+        }
+
+        return hits;
+    }
+
+    public static long getMissCount() {
+        long misses = 0;
+
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                misses += shard.misses;
+            }
+        }
+
+        return misses;
+    }
+
+    public static void clear() {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.cache.clear();
+                shard.memoryUsed = 0;
+            }
+        }
+    }
+
+    /**
+     * LRU of one part of the keys, guarded by its own monitor
+     */
+    private static class Shard {
+
+        private final LinkedHashMap<Key, Float> cache = new LinkedHashMap<Key, Float>(64, 0.75f, true);
+        private int memoryUsed;
+        private long hits;
+        private long misses;
+
+        private void trimToBudget(int budget) {
+            Iterator<Map.Entry<Key, Float>> iterator = cache.entrySet().iterator();
+
+            while (memoryUsed > budget && iterator.hasNext()) {
+                memoryUsed -= ENTRY_OVERHEAD + iterator.next().getKey().count * 2;
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Key {
+
+        private Typeface typeface;
+        private float textSize;
+        private float textScaleX;
+        private float textSkewX;
+        private float letterSpacing;
+        private int flags;
+        private Locale textLocale;
+        private String fontFeatureSettings;
+        // Either the chars or, for lookups only, the text
+        private char[] chars;
+        private CharSequence text;
+        private int start;
+        private int count;
+        private int hash;
+
+        public void set(Paint paint, char[] chars, CharSequence text, int start, int count) {
+            this.typeface = paint.getTypeface();
+            this.textSize = paint.getTextSize();
+            this.textScaleX = paint.getTextScaleX();
+            this.textSkewX = paint.getTextSkewX();
+            this.letterSpacing = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP ?
+                    paint.getLetterSpacing() : 0;
+            this.flags = paint.getFlags();
+            this.textLocale = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 ?
+                    paint.getTextLocale() : null;
+            this.fontFeatureSettings = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP ?
+                    paint.getFontFeatureSettings() : null;
+            this.chars = chars;
+            this.text = text;
+            this.start = start;
+            this.count = count;
+
+            int hash = typeface == null ? 0 : typeface.hashCode();
+            hash = 31 * hash + Float.floatToIntBits(textSize);
+            hash = 31 * hash + Float.floatToIntBits(textScaleX);
+            hash = 31 * hash + Float.floatToIntBits(textSkewX);
+            hash = 31 * hash + Float.floatToIntBits(letterSpacing);
+            hash = 31 * hash + flags;
+            hash = 31 * hash + (textLocale == null ? 0 : textLocale.hashCode());
+            hash = 31 * hash + (fontFeatureSettings == null ? 0 : fontFeatureSettings.hashCode());
+
+            for (int i = 0; i < count; i++) {
+                hash = 31 * hash + charAt(i);
+            }
+
+            this.hash = hash;
+        }
+
+        private char charAt(int index) {
+            return chars != null ? chars[start + index] : text.charAt(start + index);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            if (hash != key.hash || count != key.count || flags != key.flags ||
+                    textSize != key.textSize || textScaleX != key.textScaleX ||
+                    textSkewX != key.textSkewX || letterSpacing != key.letterSpacing ||
+                    (typeface == null ? key.typeface != null : !typeface.equals(key.typeface)) ||
+                    (textLocale == null ? key.textLocale != null : !textLocale.equals(key.textLocale)) ||
+                    !TextUtils.equals(fontFeatureSettings, key.fontFeatureSettings)) {
+                return false;
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (charAt(i) != key.charAt(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
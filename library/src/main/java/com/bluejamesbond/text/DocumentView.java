@@ -32,6 +32,7 @@ package com.bluejamesbond.text;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.app.Activity;
+import android.app.ActivityManager;
 import android.content.Context;
 import android.content.res.Configuration;
 import android.content.res.TypedArray;
@@ -40,10 +41,12 @@ import android.graphics.Bitmap.Config;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Picture;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
 import android.os.AsyncTask;
 import android.os.Build;
+import android.os.SystemClock;
 import android.text.TextPaint;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
@@ -54,6 +57,11 @@ import android.widget.ScrollView;
 
 import com.bluejamesbond.text.style.TextAlignment;
 
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import javax.microedition.khronos.egl.EGL10;
 import javax.microedition.khronos.egl.EGLConfig;
 import javax.microedition.khronos.egl.EGLContext;
@@ -66,6 +74,11 @@ public class DocumentView extends ScrollView {
     public static final int FORMATTED_TEXT = 1;
     private static final ITween LINEAR_EASE_IN;
 
+    // Scrolling ahead of which tiles are rendered, and
+    // the pause after which the scroll velocity is stale
+    private static final int PREFETCH_MILLIS = 300;
+    private static final int SCROLL_IDLE_MILLIS = 100;
+
     private static final Object eglBitmapHeightLock;
     private static int eglBitmapHeight;
     protected ILayoutProgressListener layoutProgressListener;
@@ -93,9 +106,13 @@ public class DocumentView extends ScrollView {
     private int minimumHeight;
     private int orientation;
     private CacheConfig cacheConfig;
-    private CacheBitmap cacheBitmapTop;
-    private CacheBitmap cacheBitmapBottom;
+    private LinkedHashMap<Integer, CacheBitmap> cacheTiles;
+    private int cacheTileHeight;
+    private int cacheBudget;
+    private float scrollVelocity;
+    private long lastScrollTime;
     private boolean disallowInterceptTouch;
+    private Runnable publishRunnable;
 
     public DocumentView(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
@@ -174,21 +191,32 @@ public class DocumentView extends ScrollView {
         this.disallowInterceptTouch = disallowInterceptTouch;
     }
 
-    protected synchronized void drawLayout(Canvas canvas, int startY, int endY, boolean isCache) {
+    protected void drawLayout(Canvas canvas, int startY, int endY, boolean isCache) {
+        drawLayout(canvas, startY, endY, isCache, null);
+    }
+
+    /**
+     * Safe to call from several threads, tiles render in parallel. Cache
+     * tiles are only recycled once their render is done with them.
+     */
+    protected void drawLayout(Canvas canvas, int startY, int endY, boolean isCache,
+                              IDocumentLayout.ICancel<Boolean> cancelled) {
 
         if (isCache) {
             // clear canvas
             canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
         }
 
-        layout.draw(canvas, startY, endY);
+        if (cancelled != null) {
+            layout.draw(canvas, startY, endY, cancelled);
+        } else {
+            layout.draw(canvas, startY, endY);
+        }
 
         // onDraw border around
         if (getDocumentLayoutParams().isDebugging()) {
             IDocumentLayout.LayoutParams params = getDocumentLayoutParams();
-            int lastColor = paint.getColor();
-            float lastStrokeWidth = paint.getStrokeWidth();
-            Paint.Style lastStyle = paint.getStyle();
+            Paint paint = new Paint();
 
             // border
             paint.setColor(Color.MAGENTA);
@@ -201,10 +229,6 @@ public class DocumentView extends ScrollView {
             float bottom = (bottom = layout.getMeasuredHeight() - params.insetPaddingBottom) >= startY && bottom < endY ? bottom - startY : canvas.getHeight();
 
             canvas.drawRect(left, top, right, bottom, paint);
-
-            paint.setStrokeWidth(lastStrokeWidth);
-            paint.setColor(lastColor);
-            paint.setStyle(lastStyle);
         }
     }
 
@@ -244,10 +268,22 @@ public class DocumentView extends ScrollView {
         disallowInterceptTouch = false;
         fadeInTween = LINEAR_EASE_IN;
         cacheConfig = CacheConfig.AUTO_QUALITY;
+        cacheTileHeight = eglBitmapHeight / 3;
+
+        // An eighth of the heap, like the usual bitmap caches
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        cacheBudget = activityManager.getMemoryClass() * 1024 * 1024 / 8;
+
         paint = new TextPaint();
         cachePaint = new TextPaint();
         viewportView = new View(context);
         measureState = MeasureTaskState.START;
+        publishRunnable = new Runnable() {
+            @Override
+            public void run() {
+                showPartialLayout();
+            }
+        };
 
         // Initialize paint
         initPaint(paint);
@@ -366,6 +402,11 @@ public class DocumentView extends ScrollView {
                         invalidateCache();
                         requestLayout();
                     }
+
+                    @Override
+                    public void onPartialLayout() {
+                        post(publishRunnable);
+                    }
                 };
             default:
             case PLAIN_TEXT:
@@ -381,18 +422,53 @@ public class DocumentView extends ScrollView {
                         invalidateCache();
                         requestLayout();
                     }
+
+                    @Override
+                    public void onPartialLayout() {
+                        post(publishRunnable);
+                    }
                 };
         }
     }
 
     public void invalidateCache() {
-        if (cacheBitmapTop != null) {
-            cacheBitmapTop.setStart(-1);
+        if (cacheTiles != null) {
+            for (CacheBitmap cache : cacheTiles.values()) {
+                cache.setStart(-1);
+            }
         }
+    }
 
-        if (cacheBitmapBottom != null) {
-            cacheBitmapBottom.setStart(-1);
+    /**
+     * Redraws only the lines of the chars from start to end in the cached
+     * tiles, for spans that changed how they draw, e.g. a pressed link.
+     * Spans that were added or removed need the layout to be measured again.
+     */
+    public void invalidateCache(int start, int end) {
+        if (cacheTiles != null && layout.getLineCount() > 0) {
+            int firstLine = layout.getLineForOffset(start);
+            int lastLine = layout.getLineForOffset(Math.max(start, end - 1));
+            int lineCount = layout.getLineCount();
+
+            // Plain text is drawn moved by the offset
+            float offsetY = Math.abs(getDocumentLayoutParams().getOffsetY());
+            int top = (int) Math.floor(layout.getLineTop(firstLine) - offsetY);
+            int bottom = (int) Math.ceil(layout.getLineTop(lastLine + 1) + offsetY);
+
+            // The lines around are drawn too, for glyphs reaching into the cleared rows
+            int drawTop = (int) Math.floor(layout.getLineTop(Math.max(firstLine - 1, 0)) - offsetY);
+            int drawBottom = (int) Math.ceil(layout.getLineTop(Math.min(lastLine + 2, lineCount)) + offsetY);
+
+            for (CacheBitmap cache : cacheTiles.values()) {
+                int tileTop = cache.getStart();
+
+                if (tileTop != -1 && top < tileTop + cacheTileHeight && bottom > tileTop) {
+                    cache.redrawLines(top, bottom, drawTop, drawBottom);
+                }
+            }
         }
+
+        invalidate();
     }
 
     public View getViewportView(){
@@ -442,6 +518,15 @@ public class DocumentView extends ScrollView {
         requestLayout();
     }
 
+    /**
+     * Lays out the text as it is read, growing the view each time
+     * more lines are ready
+     */
+    public void setText(Reader reader) {
+        this.layout.setText(reader);
+        requestLayout();
+    }
+
     public StringDocumentLayout.LayoutParams getDocumentLayoutParams() {
         return this.layout.getLayoutParams();
     }
@@ -458,6 +543,30 @@ public class DocumentView extends ScrollView {
         cacheConfig = quality;
     }
 
+    public int getCacheTileHeight() {
+        return cacheTileHeight;
+    }
+
+    public void setCacheTileHeight(int tileHeight) {
+        cacheTileHeight = Math.max(1, tileHeight);
+        destroyCache();
+        invalidate();
+    }
+
+    public int getCacheBudget() {
+        return cacheBudget;
+    }
+
+    /**
+     * Bytes the cached tiles may take, though the tiles of the
+     * viewport and its neighbors are always kept
+     */
+    public void setCacheBudget(int bytes) {
+        cacheBudget = bytes;
+        destroyCache();
+        invalidate();
+    }
+
     @SuppressWarnings("DrawAllocation")
     @Override
     protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
@@ -469,20 +578,31 @@ public class DocumentView extends ScrollView {
             case AWAIT:
                 break;
             case FINISH:
-                viewportView.setMinimumWidth(width);
-                viewportView.setMinimumHeight(layout.getMeasuredHeight());
-                measureState = MeasureTaskState.FINISH_AWAIT;
-
-                if(cacheConfig != CacheConfig.NO_CACHE){
-                    allocateResources();
-                }
-
+                finishMeasure(width);
                 break;
             case START:
                 if (measureTask != null) {
                     measureTask.cancel(true);
                     measureTask = null;
                 }
+
+                // Width measured before, e.g. rotating back. Doesn't wait
+                // for the cancelled measure, it can't publish over it
+                layout.getLayoutParams().setParentWidth(width);
+
+                if (layout.restoreLayout()) {
+                    finishMeasure(width);
+
+                    if (layoutProgressListener != null) {
+                        layoutProgressListener.onFinish();
+                    }
+
+                    break;
+                }
+
+                // Publish once the visible region is laid out
+                layout.setFirstPublishHeight(getScrollY() + Math.max(getHeight(), eglBitmapHeight));
+
                 measureTask = new MeasureTask(width);
                 measureTask.execute();
                 measureState = MeasureTaskState.AWAIT;
@@ -492,6 +612,31 @@ public class DocumentView extends ScrollView {
         super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     }
 
+    private void finishMeasure(int width) {
+        viewportView.setMinimumWidth(width);
+        viewportView.setMinimumHeight(layout.getMeasuredHeight());
+        measureState = MeasureTaskState.FINISH_AWAIT;
+
+        if(cacheConfig != CacheConfig.NO_CACHE){
+            allocateResources();
+        }
+    }
+
+    /**
+     * Draws the lines measured so far while MeasureTask is still running
+     */
+    private void showPartialLayout() {
+        if (measureState != MeasureTaskState.AWAIT) {
+            return;
+        }
+
+        viewportView.setMinimumWidth((int) layout.getLayoutParams().getParentWidth());
+        viewportView.setMinimumHeight(layout.getMeasuredHeight());
+        invalidateCache();
+        DocumentView.super.requestLayout();
+        invalidate();
+    }
+
     @Override
     public boolean onTouchEvent(MotionEvent ev) {
         requestDisallowInterceptTouchEvent(disallowInterceptTouch);
@@ -561,55 +706,51 @@ public class DocumentView extends ScrollView {
 
             allocateResources();
 
-            final int scrollTop = getScrollY();
+            final int scrollTop = Math.max(0, getScrollY());
             final int scrollBottom = scrollTop + getHeight();
+            final int firstTile = scrollTop / cacheTileHeight;
+            final int lastTile = (scrollBottom - 1) / cacheTileHeight;
+            final int lastDocumentTile = (layout.getMeasuredHeight() - 1) / cacheTileHeight;
 
-            final CacheBitmap top = scrollTop % (eglBitmapHeight * 2) < eglBitmapHeight ? cacheBitmapTop : cacheBitmapBottom;
-            final CacheBitmap bottom = scrollBottom % (eglBitmapHeight * 2) >= eglBitmapHeight ? cacheBitmapBottom : cacheBitmapTop;
-
-            final int startTop = scrollTop - (scrollTop % (eglBitmapHeight * 2)) + (top == cacheBitmapTop ? 0 : eglBitmapHeight);
+            // Tiles to keep besides the visible ones
+            int ahead = getPrefetchTileCount(lastTile - firstTile + 1);
+            int keepFirst = firstTile - 1 + Math.min(0, ahead);
+            int keepLast = lastTile + 1 + Math.max(0, ahead);
 
-            boolean postInvalidate;
+            boolean postInvalidate = false;
 
-            if (top == bottom) {
+            // Visible tiles render first
+            for (int tile = firstTile; tile <= lastTile; tile++) {
+                CacheBitmap cache = getCacheTile(tile, keepFirst, keepLast);
 
-                if (startTop != top.getStart()) {
-                    top.setStart(startTop);
-                    top.drawInBackground(new Runnable() {
-                        @Override
-                        public void run() {
-                            drawLayout(new Canvas(bottom.getBitmap()), startTop, startTop + eglBitmapHeight, true);
-                        }
-                    });
+                if (cache != null) {
+                    postInvalidate |= drawCacheToView(canvas, cachePaint, cache, tile * cacheTileHeight);
                 }
+            }
 
-                postInvalidate = drawCacheToView(canvas, cachePaint, top, startTop);
+            // Then the neighbors, so scrolling back and forth doesn't re-render
+            if (firstTile > 0) {
+                getCacheTile(firstTile - 1, keepFirst, keepLast);
+            }
 
-            } else {
+            if (lastTile < lastDocumentTile) {
+                getCacheTile(lastTile + 1, keepFirst, keepLast);
+            }
 
-                final int startBottom = startTop + eglBitmapHeight;
+            // Then the tiles the scroll reaches while those render
+            for (int tile = firstTile - 2; tile >= Math.max(0, keepFirst); tile--) {
+                getCacheTile(tile, keepFirst, keepLast);
+            }
 
-                if (startTop != top.getStart()) {
-                    top.setStart(startTop);
-                    top.drawInBackground(new Runnable() {
-                        @Override
-                        public void run() {
-                            drawLayout(new Canvas(top.getBitmap()), startTop, startTop + eglBitmapHeight, true);
-                        }
-                    });
-                }
+            for (int tile = lastTile + 2; tile <= keepLast && tile <= lastDocumentTile; tile++) {
+                getCacheTile(tile, keepFirst, keepLast);
+            }
 
-                if (startBottom != bottom.getStart()) {
-                    bottom.setStart(startBottom);
-                    bottom.drawInBackground(new Runnable() {
-                        @Override
-                        public void run() {
-                            drawLayout(new Canvas(bottom.getBitmap()), startBottom, startBottom + eglBitmapHeight, true);
-                        }
-                    });
+            // Renders that were scrolled away from
+            for (Map.Entry<Integer, CacheBitmap> entry : cacheTiles.entrySet()) {
+                if (entry.getKey() < keepFirst || entry.getKey() > keepLast) {
+                    entry.getValue().cancelDraw();
                 }
-
-                postInvalidate = drawCacheToView(canvas, cachePaint, top, startTop) | drawCacheToView(canvas, cachePaint, bottom, startBottom);
             }
 
             if (postInvalidate) {
@@ -621,6 +762,42 @@ public class DocumentView extends ScrollView {
         }
     }
 
+    @Override
+    protected void onScrollChanged(int l, int t, int oldl, int oldt) {
+        super.onScrollChanged(l, t, oldl, oldt);
+
+        long now = SystemClock.uptimeMillis();
+        long elapsed = now - lastScrollTime;
+        float velocity = elapsed > 0 ? (float) (t - oldt) / elapsed : scrollVelocity;
+
+        // Smooth out uneven frames, start over after a pause
+        scrollVelocity = elapsed > SCROLL_IDLE_MILLIS ? velocity : (scrollVelocity + velocity) / 2;
+        lastScrollTime = now;
+    }
+
+    @Override
+    public void fling(int velocityY) {
+        // Render ahead before the fling moves
+        scrollVelocity = velocityY / 1000f;
+        lastScrollTime = SystemClock.uptimeMillis();
+        super.fling(velocityY);
+    }
+
+    /**
+     * Tiles to render ahead of the viewport for the scroll velocity,
+     * negative when scrolling up, as many as the budget leaves
+     */
+    private int getPrefetchTileCount(int visibleTiles) {
+        if (SystemClock.uptimeMillis() - lastScrollTime > SCROLL_IDLE_MILLIS) {
+            return 0;
+        }
+
+        int tiles = (int) Math.ceil(Math.abs(scrollVelocity) * PREFETCH_MILLIS / cacheTileHeight);
+        tiles = Math.max(0, Math.min(tiles, getMaxCacheTiles() - visibleTiles - 2));
+
+        return scrollVelocity < 0 ? -tiles : tiles;
+    }
+
     @Override
     public void setMinimumHeight(int minHeight) {
         minimumHeight = minHeight;
@@ -628,18 +805,95 @@ public class DocumentView extends ScrollView {
     }
 
     public void allocateResources() {
-        if (cacheBitmapTop == null) {
-            cacheBitmapTop = new CacheBitmap(getWidth(), eglBitmapHeight, cacheConfig.getConfig());
+        if (cacheTiles == null) {
+            // Least recently drawn first
+            cacheTiles = new LinkedHashMap<>(16, 0.75f, true);
+        }
+    }
+
+    /**
+     * Tiles in the budget, though always enough for the viewport and its neighbors
+     */
+    private int getMaxCacheTiles() {
+        int tileBytes = Math.max(1, getWidth() * cacheTileHeight * getTileConfig().getBytesPerPixel());
+        return Math.max(cacheBudget / tileBytes, getHeight() / cacheTileHeight + 4);
+    }
+
+    /**
+     * Hardware canvases can't replay pictures before Marshmallow,
+     * those fall back to bitmap tiles
+     */
+    @TargetApi(Build.VERSION_CODES.HONEYCOMB)
+    private CacheConfig getTileConfig() {
+        if (cacheConfig == CacheConfig.DISPLAY_LIST
+                && Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB
+                && Build.VERSION.SDK_INT < Build.VERSION_CODES.M
+                && isHardwareAccelerated()) {
+            return CacheConfig.AUTO_QUALITY;
+        }
+
+        return cacheConfig;
+    }
+
+    /**
+     * Returns the tile, rendering it if needed. New tiles take the least recently
+     * drawn one outside of the tiles to keep once the budget is used up, or
+     * null if there is none.
+     */
+    private CacheBitmap getCacheTile(int tile, int keepFirst, int keepLast) {
+        final int start = tile * cacheTileHeight;
+        CacheBitmap cache = cacheTiles.get(tile);
+
+        if (cache == null) {
+            if (cacheTiles.size() < getMaxCacheTiles()) {
+                cache = new CacheBitmap(getWidth(), cacheTileHeight, getTileConfig());
+            } else {
+                for (Iterator<Map.Entry<Integer, CacheBitmap>> iterator = cacheTiles.entrySet().iterator();
+                     iterator.hasNext(); ) {
+                    Map.Entry<Integer, CacheBitmap> entry = iterator.next();
+
+                    if (entry.getKey() < keepFirst || entry.getKey() > keepLast) {
+                        cache = entry.getValue();
+                        iterator.remove();
+                        break;
+                    }
+                }
+
+                if (cache == null) {
+                    return null;
+                }
+            }
+
+            cache.setStart(-1);
+            cacheTiles.put(tile, cache);
         }
 
-        if (cacheBitmapBottom == null) {
-            cacheBitmapBottom = new CacheBitmap(getWidth(), eglBitmapHeight, cacheConfig.getConfig());
+        if (start != cache.getStart()) {
+            cache.setStart(start);
+            cache.drawInBackground(start);
         }
+
+        return cache;
     }
 
     protected boolean drawCacheToView(Canvas canvas, Paint paint, CacheBitmap cache, int y) {
         // onDraw only if cache is ready
         if (cache.isReady()) {
+            if (cache.getPicture() != null) {
+                int alpha = cache.getAlpha();
+                int saveCount = canvas.save();
+                canvas.translate(0, y);
+                canvas.clipRect(0, 0, cache.getWidth(), cache.getHeight());
+
+                if (alpha < 255) {
+                    canvas.saveLayerAlpha(0, 0, cache.getWidth(), cache.getHeight(), alpha, Canvas.ALL_SAVE_FLAG);
+                }
+
+                canvas.drawPicture(cache.getPicture());
+                canvas.restoreToCount(saveCount);
+                return alpha < 255;
+            }
+
             int lastAlpha = paint.getAlpha();
             paint.setAlpha(cache.getAlpha());
             canvas.drawBitmap(cache.getBitmap(), 0, y, paint);
@@ -663,26 +917,28 @@ public class DocumentView extends ScrollView {
     }
 
     public void destroyCache() {
-        if (cacheBitmapTop != null) {
-            cacheBitmapTop.recycle();
-            cacheBitmapTop = null;
-        }
+        if (cacheTiles != null) {
+            for (CacheBitmap cache : cacheTiles.values()) {
+                cache.recycle();
+            }
 
-        if (cacheBitmapBottom != null) {
-            cacheBitmapBottom.recycle();
-            cacheBitmapBottom = null;
+            cacheTiles = null;
         }
     }
 
     public static enum CacheConfig {
-        NO_CACHE(null, 0), AUTO_QUALITY(Config.ARGB_4444, 1), LOW_QUALITY(Config.RGB_565, 2), HIGH_QUALITY(Config.ARGB_8888, 3), GRAYSCALE(Config.ALPHA_8, 4);
+        NO_CACHE(null, 0, 0), AUTO_QUALITY(Config.ARGB_4444, 1, 2), LOW_QUALITY(Config.RGB_565, 2, 2), HIGH_QUALITY(Config.ARGB_8888, 3, 4), GRAYSCALE(Config.ALPHA_8, 4, 1),
+        // Records the drawing instead, its size is a rough upper bound
+        DISPLAY_LIST(null, 5, 1);
 
         private final Config mConfig;
         private final int mId;
+        private final int mBytesPerPixel;
 
-        private CacheConfig(Config config, int id) {
+        private CacheConfig(Config config, int id, int bytesPerPixel) {
             mConfig = config;
             mId = id;
+            mBytesPerPixel = bytesPerPixel;
         }
 
         public static CacheConfig getById(int id) {
@@ -698,6 +954,8 @@ public class DocumentView extends ScrollView {
                     return HIGH_QUALITY;
                 case 4:
                     return GRAYSCALE;
+                case 5:
+                    return DISPLAY_LIST;
             }
         }
 
@@ -705,6 +963,10 @@ public class DocumentView extends ScrollView {
             return mConfig;
         }
 
+        private int getBytesPerPixel() {
+            return mBytesPerPixel;
+        }
+
         public int getId() {
             return mId;
         }
@@ -732,9 +994,11 @@ public class DocumentView extends ScrollView {
 
         private IDocumentLayout.IProgress<Float> progress;
         private IDocumentLayout.ICancel<Boolean> cancelled;
+        private boolean partial;
 
         public MeasureTask(float parentWidth) {
             layout.getLayoutParams().setParentWidth(parentWidth);
+            partial = layout.getLayoutParams().isProgressiveLayout() || layout.isTextStreaming();
             progress = new IDocumentLayout.IProgress<Float>() {
                 @Override
                 public void onUpdate(Float progress) {
@@ -782,6 +1046,12 @@ public class DocumentView extends ScrollView {
             measureState = MeasureTaskState.FINISH;
             DocumentView.super.requestLayout();
 
+            // Cached tiles may hold a partial layout
+            if (partial) {
+                invalidateCache();
+                invalidate();
+            }
+
             if (layoutProgressListener != null) {
                 layoutProgressListener.onFinish();
             }
@@ -800,13 +1070,23 @@ public class DocumentView extends ScrollView {
 
         private long drawFadeInStartTime;
         private Bitmap bitmap;
+        private Picture picture;
+        private int width;
+        private int height;
         private int start;
         private volatile boolean drawCompleted;
         private volatile CacheDrawTask drawTask;
         private volatile int alpha;
 
-        public CacheBitmap(int w, int h, Bitmap.Config config) {
-            bitmap = Bitmap.createBitmap(w, h, config);
+        public CacheBitmap(int w, int h, CacheConfig config) {
+            if (config == CacheConfig.DISPLAY_LIST) {
+                picture = new Picture();
+            } else {
+                bitmap = Bitmap.createBitmap(w, h, config.getConfig());
+            }
+
+            width = w;
+            height = h;
             start = -1;
             drawCompleted = false;
         }
@@ -815,7 +1095,8 @@ public class DocumentView extends ScrollView {
             return (int) Math.min(fadeInTween.get(System.currentTimeMillis() - drawFadeInStartTime, 0, 255f, fadeInDuration), 255f);
         }
 
-        public void drawInBackground(Runnable runnable) {
+        @TargetApi(Build.VERSION_CODES.HONEYCOMB)
+        public void drawInBackground(int startY) {
             if (drawTask != null) {
                 drawTask.cancel(true);
                 drawTask = null;
@@ -823,14 +1104,70 @@ public class DocumentView extends ScrollView {
 
             drawCompleted = false;
             alpha = 0;
-            drawTask = new CacheDrawTask(runnable);
-            drawTask.execute();
+            drawTask = new CacheDrawTask(startY);
+
+            // Tiles render in parallel, older versions already run tasks on a pool
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+                drawTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            } else {
+                drawTask.execute();
+            }
+        }
+
+        /**
+         * Draws the layout from start into the bitmap, or records it. A cancelled
+         * render of the tile still finishes its line first, so renders wait their turn
+         * and recycle() waits for it.
+         */
+        public synchronized void render(int startY, IDocumentLayout.ICancel<Boolean> cancelled) {
+            if (bitmap == null && picture == null) {
+                // Recycled before the render started
+                return;
+            } else if (picture != null) {
+                Canvas canvas = picture.beginRecording(width, height);
+                drawLayout(canvas, startY, startY + height, false, cancelled);
+                picture.endRecording();
+            } else {
+                drawLayout(new Canvas(bitmap), startY, startY + height, true, cancelled);
+            }
+        }
+
+        /**
+         * Clears the rows from top to bottom and draws the lines from drawTop to
+         * drawBottom into them. Tiles still rendering may have drawn the old lines
+         * and pictures can't be changed in part, those render again instead.
+         */
+        public void redrawLines(int top, int bottom, int drawTop, int drawBottom) {
+            if (!drawCompleted || picture != null) {
+                start = -1;
+                return;
+            }
+
+            // No render of a drawn tile is running, so this doesn't wait
+            synchronized (this) {
+                Canvas canvas = new Canvas(bitmap);
+                canvas.clipRect(0, top - start, width, bottom - start);
+                canvas.translate(0, drawTop - start);
+                drawLayout(canvas, drawTop, drawBottom, true);
+            }
         }
 
         public Bitmap getBitmap() {
             return bitmap;
         }
 
+        public Picture getPicture() {
+            return picture;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
         public void setBitmap(Bitmap bitmap) {
             this.bitmap = bitmap;
         }
@@ -847,6 +1184,20 @@ public class DocumentView extends ScrollView {
             return drawCompleted;
         }
 
+        /**
+         * Stops a render that hasn't finished, the tile renders again when needed
+         */
+        public void cancelDraw() {
+            if (drawTask != null && !drawCompleted) {
+                drawTask.cancel(true);
+                drawTask = null;
+                start = -1;
+            }
+        }
+
+        /**
+         * Stops the render and frees the bitmap once the render has let go of it
+         */
         public void recycle() {
             if (drawTask != null) {
                 drawTask.cancel(true);
@@ -854,17 +1205,29 @@ public class DocumentView extends ScrollView {
                 drawCompleted = false;
             }
 
-            if (bitmap != null) {
-                bitmap.recycle();
-                bitmap = null;
+            // A cancelled render still finishes its line
+            synchronized (this) {
+                if (bitmap != null) {
+                    bitmap.recycle();
+                    bitmap = null;
+                }
+
+                picture = null;
             }
         }
 
         public class CacheDrawTask extends AsyncTask<Void, Void, Void> {
-            private Runnable drawRunnable;
+            private int startY;
+            private IDocumentLayout.ICancel<Boolean> cancelled;
 
-            public CacheDrawTask(Runnable runnable) {
-                drawRunnable = runnable;
+            public CacheDrawTask(int startY) {
+                this.startY = startY;
+                cancelled = new IDocumentLayout.ICancel<Boolean>() {
+                    @Override
+                    public Boolean isCancelled() {
+                        return CacheDrawTask.this.isCancelled();
+                    }
+                };
             }
 
             @Override
@@ -874,7 +1237,7 @@ public class DocumentView extends ScrollView {
 
             @Override
             protected Void doInBackground(Void... params) {
-                drawRunnable.run();
+                render(startY, cancelled);
                 return null;
             }
 
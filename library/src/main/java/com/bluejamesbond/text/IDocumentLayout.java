@@ -13,9 +13,19 @@ import android.util.DisplayMetrics;
 import android.util.TypedValue;
 import android.widget.Toast;
 
+import com.bluejamesbond.text.hyphen.HyphenatorAdapter;
 import com.bluejamesbond.text.hyphen.IHyphenator;
+import com.bluejamesbond.text.hyphen.IOffsetHyphenator;
+import com.bluejamesbond.text.linebreak.ILineBreaker;
 import com.bluejamesbond.text.style.TextAlignment;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /*
  * Copyright 2015 Mathew Kurian
  *
@@ -48,25 +58,61 @@ import com.bluejamesbond.text.style.TextAlignment;
 @SuppressWarnings("unused")
 public abstract class IDocumentLayout {
 
+    // Number of widths to remember
+    private static final int LAYOUT_CACHE_SIZE = 3;
+
+    private static final ICancel<Boolean> NOT_CANCELLED = new ICancel<Boolean>() {
+        @Override
+        public Boolean isCancelled() {
+            return false;
+        }
+    };
+
     // Main content
     protected CharSequence text;
-    protected int lineCount;
-    protected int measuredHeight;
     protected boolean textChange;
     protected LayoutParams params;
     protected TextPaint paint;
+
+    // Paint of the measuring thread, loaded from the params per measure
+    protected TextPaint measurePaint;
+
+    // Paint of the render on each thread, loaded from the params per draw
+    private final ThreadLocal<TextPaint> drawPaint = new ThreadLocal<TextPaint>() {
+        @Override
+        protected TextPaint initialValue() {
+            return new TextPaint();
+        }
+    };
     private Toast toast;
     private DisplayMetrics displayMetrics;
+    private LinkedHashMap<List<Object>, LayoutResult> layoutCache;
+    // Layout drawn and queried, replaced as a whole by measure and restore
+    private volatile LayoutResult layout;
+    // Bumped under the layoutCache lock when a layout is restored, so an
+    // older measure can't publish over it
+    private int layoutGeneration;
+    private volatile int textGeneration;
+    private volatile Reader textSource;
+    private volatile float firstPublishHeight;
+    private float nextPublishY;
+    private int measureGeneration;
 
     @SuppressLint("ShowToast")
     public IDocumentLayout(Context context, TextPaint textPaint) {
         paint = textPaint;
+        measurePaint = new TextPaint();
         text = "";
-        measuredHeight = 0;
-        lineCount = 0;
+        layout = new LayoutResult(0, 0);
         textChange = false;
         displayMetrics = context.getResources().getDisplayMetrics();
         toast = Toast.makeText(context, "", Toast.LENGTH_SHORT);
+        layoutCache = new LinkedHashMap<List<Object>, LayoutResult>(LAYOUT_CACHE_SIZE + 1, 1.0f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, LayoutResult> eldest) {
+                return size() > LAYOUT_CACHE_SIZE;
+            }
+        };
 
         params = new LayoutParams();
         params.setLineHeightMultiplier(1.0f);
@@ -94,36 +140,132 @@ public abstract class IDocumentLayout {
     public void setText(CharSequence text) {
         text = text == null ? new SpannableString("") : new SpannableString(text);
 
-        if (this.text.equals(text)) {
+        if (textSource == null && this.text.equals(text)) {
             return;
         }
 
+        closeTextSource();
         this.text = text;
-        this.textChange = true;
+
+        // Layouts of the old text can't be used anymore. Flagged under the
+        // lock so a restore of the old text can't clear it.
+        synchronized (layoutCache) {
+            textGeneration++;
+            textChange = true;
+            layoutCache.clear();
+        }
 
         onTextChange();
     }
 
+    /**
+     * Reads the text from the reader while measuring, so the first lines can
+     * be drawn before the whole text was read. The reader is closed once it
+     * has been read or the text is replaced.
+     */
+    public void setText(Reader reader) {
+        closeTextSource();
+        this.text = new SpannableString("");
+        this.textSource = reader;
+
+        synchronized (layoutCache) {
+            textGeneration++;
+            textChange = true;
+            layoutCache.clear();
+        }
+
+        onTextChange();
+    }
+
+    /**
+     * If the text is still being read from a reader
+     */
+    public boolean isTextStreaming() {
+        return textSource != null;
+    }
+
+    /**
+     * Bumped by every setText(), so engines can tell if the text they
+     * prepared in an earlier measure is still the current one
+     */
+    protected int getTextGeneration() {
+        return textGeneration;
+    }
+
+    protected Reader getTextSource() {
+        return textSource;
+    }
+
+    /**
+     * Reads the next chars of the text source, or returns -1 at the end
+     * of it or if it was closed
+     */
+    protected int readTextSource(Reader source, char[] buffer, int offset, int count) {
+        try {
+            return source.read(buffer, offset, count);
+        } catch (IOException e) {
+            if (source == textSource) {
+                e.printStackTrace();
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Called by onMeasure() once the text source was read to the end.
+     * Returns false if the text was replaced in the meantime.
+     */
+    protected boolean finishTextSource(Reader source, CharSequence text) {
+        if (source != textSource) {
+            return false;
+        }
+
+        closeTextSource();
+        this.text = new SpannableString(text);
+        return true;
+    }
+
+    private void closeTextSource() {
+        Reader source = textSource;
+        textSource = null;
+
+        if (source != null) {
+            try {
+                source.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
     public int getMeasuredHeight() {
-        return measuredHeight;
+        return layout.measuredHeight;
     }
 
     protected void onTextNull() {
         params.changed = false;
-        measuredHeight = (int) (params.insetPaddingTop + params.insetPaddingBottom);
+        layout = new LayoutResult(0, (int) (params.insetPaddingTop + params.insetPaddingBottom));
     }
 
     public int getLineCount() {
-        return lineCount;
+        return layout.lineCount;
+    }
+
+    /**
+     * Layout last published by measure() or restoreLayout(). Readers must
+     * take it once and only read that, it is never modified.
+     */
+    protected LayoutResult getLayout() {
+        return layout;
     }
 
-    public boolean measure(IProgress<Float> progress, ICancel<Boolean> cancelled) {
+    public synchronized boolean measure(IProgress<Float> progress, ICancel<Boolean> cancelled) {
 
         if (!params.changed && !textChange) {
             return true;
         }
 
-        params.loadToPaint(paint);
+        measurePaint.set(paint);
+        params.loadToPaint(measurePaint);
 
         if (text == null) {
             text = new SpannableString("");
@@ -131,19 +273,161 @@ public abstract class IDocumentLayout {
             text = new SpannableString(text);
         }
 
-        return onMeasure(progress, cancelled);
+        if (restoreLayout()) {
+            return true;
+        }
+
+        List<Object> key = getLayoutKey();
+        int paramsVersion = params.version;
+        int measureTextGeneration;
+
+        synchronized (layoutCache) {
+            measureGeneration = layoutGeneration;
+            measureTextGeneration = textGeneration;
+        }
+
+        nextPublishY = firstPublishHeight;
+        boolean done = onMeasure(progress, cancelled);
+
+        if (done) {
+            synchronized (layoutCache) {
+                // A restore since or a change while measuring keeps its flags,
+                // so the next measure lays out what is current
+                if (measureGeneration == layoutGeneration) {
+                    boolean paramsCurrent = params.version == paramsVersion;
+                    boolean textCurrent = textGeneration == measureTextGeneration;
+
+                    if (paramsCurrent) {
+                        params.changed = false;
+                    }
+
+                    if (textCurrent) {
+                        textChange = false;
+                    }
+
+                    if (paramsCurrent && textCurrent) {
+                        layoutCache.put(key, layout);
+                    }
+                }
+            }
+        }
+
+        return done;
+    }
+
+    /**
+     * Restores a layout measured earlier with the same text and parameters,
+     * e.g. after rotating back to a previous width. Returns true if the
+     * layout is up to date and measure() is not needed. Only takes the cache
+     * lock, so the UI thread never waits for a running measure.
+     */
+    public boolean restoreLayout() {
+
+        if (!params.changed && !textChange) {
+            return true;
+        }
+
+        synchronized (layoutCache) {
+            LayoutResult result = layoutCache.get(getLayoutKey());
+
+            if (result == null) {
+                return false;
+            }
+
+            layoutGeneration++;
+            layout = result;
+            params.changed = false;
+            textChange = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Text identity, parent width and every parameter that moves tokens
+     */
+    private List<Object> getLayoutKey() {
+        return Arrays.<Object>asList(textGeneration, params.parentWidth, params.insetPaddingLeft,
+                params.insetPaddingTop, params.insetPaddingBottom, params.insetPaddingRight,
+                params.wordSpacingMultiplier, params.lineHeightMultiplier, params.hyphenated,
+                params.hyphenator, params.hyphen, params.lineBreaker, params.reverse, params.maxLines,
+                params.textAlignment, params.textFakeBold, params.textTypeface, params.rawTextSize,
+                params.subpixelText);
     }
 
     protected abstract boolean onMeasure(IProgress<Float> progress, ICancel<Boolean> cancelled);
 
+    /**
+     * Height to lay out before the first partial layout is published,
+     * usually the bottom of the visible region
+     */
+    public void setFirstPublishHeight(float firstPublishHeight) {
+        this.firstPublishHeight = firstPublishHeight;
+    }
+
+    protected boolean isPublishDue(float y) {
+        return (params.progressiveLayout || textSource != null) && y >= nextPublishY;
+    }
+
+    /**
+     * Guesses the full height from the part measured up to y
+     */
+    protected int estimateHeight(float y, int measuredLength) {
+        // Streamed text is empty until read, so only what was measured counts
+        int length = text.length();
+
+        return (int) (Math.max(y, y * length / Math.max(measuredLength, 1)) +
+                params.insetPaddingBottom);
+    }
+
+    /**
+     * Called by onMeasure() with the layout measured so far. Spaces out later
+     * publishes geometrically so the copies stay linear overall.
+     */
+    protected void publishLayout(LayoutResult result, float y) {
+        nextPublishY = Math.max(nextPublishY, y) * 2;
+
+        if (publishLayout(result)) {
+            onPartialLayout();
+        }
+    }
+
+    /**
+     * Called by onMeasure() with the finished layout, or one that only moved
+     * tokens of the last layout. Returns false if a restored layout replaced
+     * it in the meantime.
+     */
+    protected boolean publishLayout(LayoutResult result) {
+        synchronized (layoutCache) {
+            if (measureGeneration != layoutGeneration) {
+                return false;
+            }
+
+            layout = result;
+            return true;
+        }
+    }
+
     public void draw(Canvas canvas, int startTop, int startBottom) {
+        draw(canvas, startTop, startBottom, NOT_CANCELLED);
+    }
+
+    /**
+     * Draws the lines between startTop and startBottom, stopping before
+     * the next line once cancelled. Renders only read the layout, so
+     * several can draw at the same time.
+     */
+    public void draw(Canvas canvas, int startTop, int startBottom, ICancel<Boolean> cancelled) {
+        TextPaint paint = drawPaint.get();
 
+        paint.set(this.paint);
         params.loadToPaint(paint);
 
-        onDraw(canvas, startTop, startBottom);
+        onDraw(canvas, startTop, startBottom, paint, cancelled);
     }
 
-    protected abstract void onDraw(Canvas canvas, int startTop, int startBottom);
+    protected abstract void onDraw(Canvas canvas, int startTop, int startBottom, TextPaint paint,
+                                   ICancel<Boolean> cancelled);
 
     public abstract float getTokenAscent(int tokenIndex);
 
@@ -151,8 +435,39 @@ public abstract class IDocumentLayout {
 
     public abstract int getTokenForVertical(float y, TokenPosition position);
 
+    /**
+     * Returns the line at the vertical position, or the first or last
+     * line if it is above or below the text
+     */
+    public abstract int getLineForVertical(float y);
+
+    /**
+     * Top of the line, or the bottom of the text for getLineCount()
+     */
+    public abstract float getLineTop(int line);
+
+    public abstract float getLineBaseline(int line);
+
+    /**
+     * First token of the line, as taken by the token getters
+     */
+    public abstract int getLineFirstToken(int line);
+
+    public abstract int getLineTokenCount(int line);
+
+    /**
+     * Token after the given one, to walk the tokens of a line
+     */
+    public abstract int getNextToken(int tokenIndex);
+
     public abstract int getLineForToken(int tokenIndex);
 
+    /**
+     * Returns the line of the char at the offset, or the first or last
+     * line if it is before or after the text
+     */
+    public abstract int getLineForOffset(int offset);
+
     public abstract int getTokenStart(int tokenIndex);
 
     public abstract int getTokenEnd(int tokenIndex);
@@ -167,6 +482,12 @@ public abstract class IDocumentLayout {
 
     public abstract void onTextChange();
 
+    /**
+     * Called from the measuring thread when a partial layout is ready to draw
+     */
+    public void onPartialLayout() {
+    }
+
     public static enum TokenPosition {
         START_OF_LINE, END_OF_LINE
     }
@@ -179,12 +500,28 @@ public abstract class IDocumentLayout {
         public T isCancelled();
     }
 
+    /**
+     * Measured layout, published and cached as a whole. Subclasses add the
+     * tokens and must not modify any of it once published.
+     */
+    protected static class LayoutResult {
+        protected final int lineCount;
+        protected final int measuredHeight;
+
+        protected LayoutResult(int lineCount, int measuredHeight) {
+            this.lineCount = lineCount;
+            this.measuredHeight = measuredHeight;
+        }
+    }
+
     public class LayoutParams {
 
         /**
          * All the customizable parameters
          */
         protected IHyphenator hyphenator = null;
+        protected IOffsetHyphenator offsetHyphenator = null;
+        protected ILineBreaker lineBreaker = null;
         protected Float insetPaddingLeft = 0.0f;
         protected Float insetPaddingTop = 0.0f;
         protected Float insetPaddingBottom = 0.0f;
@@ -201,6 +538,9 @@ public abstract class IDocumentLayout {
         protected Boolean subpixelText = false;
         protected Boolean antialias = false;
         protected Integer maxLines = Integer.MAX_VALUE;
+        protected Boolean incrementalLayout = false;
+        protected Boolean parallelMeasure = false;
+        protected Boolean progressiveLayout = false;
         protected String hyphen = "-";
         protected TextAlignment textAlignment = TextAlignment.LEFT;
 
@@ -217,12 +557,23 @@ public abstract class IDocumentLayout {
          */
         protected boolean changed = false;
 
+        /**
+         * Bumped by every invalidate(), so a measure can tell if the
+         * parameters changed while it ran
+         */
+        protected volatile int version = 0;
+
         public Integer getTextLinkColor() {
             return textLinkColor;
         }
 
         public void setTextLinkColor(Integer textLinkColor) {
+            if (this.textLinkColor.equals(textLinkColor)) {
+                return;
+            }
+
             this.textLinkColor = textLinkColor;
+            invalidatePaint();
         }
 
         public void loadToPaint(Paint paint) {
@@ -234,6 +585,10 @@ public abstract class IDocumentLayout {
             paint.setUnderlineText(textUnderline);
             paint.setAntiAlias(antialias);
             paint.setSubpixelText(subpixelText);
+
+            if (paint instanceof TextPaint) {
+                ((TextPaint) paint).linkColor = textLinkColor;
+            }
         }
 
         public Float getWordSpacingMultiplier() {
@@ -262,6 +617,22 @@ public abstract class IDocumentLayout {
             invalidate();
         }
 
+        public ILineBreaker getLineBreaker() {
+            return lineBreaker;
+        }
+
+        /**
+         * Line breaking strategy, or null for the built-in greedy fit
+         */
+        public void setLineBreaker(ILineBreaker lineBreaker) {
+            if (this.lineBreaker == lineBreaker) {
+                return;
+            }
+
+            this.lineBreaker = lineBreaker;
+            invalidate();
+        }
+
         public IHyphenator getHyphenator() {
             return hyphenator;
         }
@@ -276,6 +647,7 @@ public abstract class IDocumentLayout {
             }
 
             this.hyphenator = hyphenator;
+            this.offsetHyphenator = HyphenatorAdapter.getInstance(hyphenator);
             invalidate();
         }
 
@@ -349,7 +721,12 @@ public abstract class IDocumentLayout {
         }
 
         public void setOffsetX(float offsetX) {
+            if (this.offsetX.equals(offsetX)) {
+                return;
+            }
+
             this.offsetX = offsetX;
+            invalidatePaint();
         }
 
         public float getOffsetY() {
@@ -357,7 +734,12 @@ public abstract class IDocumentLayout {
         }
 
         public void setOffsetY(float offsetY) {
+            if (this.offsetY.equals(offsetY)) {
+                return;
+            }
+
             this.offsetY = offsetY;
+            invalidatePaint();
         }
 
         public float getLineHeightMultiplier() {
@@ -413,6 +795,44 @@ public abstract class IDocumentLayout {
             invalidate();
         }
 
+        public boolean isIncrementalLayout() {
+            return incrementalLayout;
+        }
+
+        /**
+         * Re-measure only the changed paragraphs when the text changes. Spans
+         * are only compared in the paragraphs around the changed characters,
+         * the others must have moved along with the text, e.g. when it is
+         * edited through an Editable. If no characters changed, all spans are
+         * compared. The copy setText() makes is compared with the next text,
+         * so the text returned by getText() must not be modified.
+         */
+        public void setIncrementalLayout(boolean incrementalLayout) {
+            this.incrementalLayout = incrementalLayout;
+        }
+
+        public boolean isParallelMeasure() {
+            return parallelMeasure;
+        }
+
+        /**
+         * Measure paragraphs on a worker pool (StringDocumentLayout only)
+         */
+        public void setParallelMeasure(boolean parallelMeasure) {
+            this.parallelMeasure = parallelMeasure;
+        }
+
+        public boolean isProgressiveLayout() {
+            return progressiveLayout;
+        }
+
+        /**
+         * Publish the lines measured so far while the rest is being measured
+         */
+        public void setProgressiveLayout(boolean progressiveLayout) {
+            this.progressiveLayout = progressiveLayout;
+        }
+
         public String getHyphen() {
             return hyphen;
         }
@@ -430,11 +850,23 @@ public abstract class IDocumentLayout {
             return this.changed;
         }
 
+        /**
+         * For parameters that move tokens, the text is measured again
+         */
         public void invalidate() {
+            this.version++;
             this.changed = true;
             onLayoutParamsChange();
         }
 
+        /**
+         * For parameters that only change how the measured tokens are
+         * drawn, the tokens are kept and only redrawn
+         */
+        public void invalidatePaint() {
+            onLayoutParamsChange();
+        }
+
         public boolean isTextUnderline() {
             return textUnderline;
         }
@@ -445,7 +877,7 @@ public abstract class IDocumentLayout {
             }
 
             this.textUnderline = underline;
-            onLayoutParamsChange();
+            invalidatePaint();
         }
 
         public boolean isTextStrikeThru() {
@@ -458,7 +890,7 @@ public abstract class IDocumentLayout {
             }
 
             this.textStrikeThru = strikeThru;
-            onLayoutParamsChange();
+            invalidatePaint();
         }
 
         public boolean isTextFakeBold() {
@@ -518,7 +950,7 @@ public abstract class IDocumentLayout {
             }
 
             this.textColor = textColor;
-            onLayoutParamsChange();
+            invalidatePaint();
         }
 
         public boolean isDebugging() {
@@ -531,7 +963,7 @@ public abstract class IDocumentLayout {
             }
 
             this.debugging = debugging;
-            onLayoutParamsChange();
+            invalidatePaint();
         }
 
         public boolean isTextSubPixel() {
@@ -545,6 +977,7 @@ public abstract class IDocumentLayout {
             }
 
             this.subpixelText = subpixelText;
+            invalidate();
         }
 
         public boolean isAntiAlias() {
@@ -558,6 +991,7 @@ public abstract class IDocumentLayout {
             }
 
             this.antialias = antialias;
+            invalidatePaint();
         }
     }
 }
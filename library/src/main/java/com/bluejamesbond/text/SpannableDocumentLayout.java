@@ -35,19 +35,34 @@ import android.graphics.Color;
 import android.graphics.Paint;
 import android.text.Layout;
 import android.text.Spannable;
-import android.text.StaticLayout;
+import android.text.SpannableString;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
 import android.text.TextPaint;
+import android.text.TextUtils;
+import android.text.style.CharacterStyle;
 import android.text.style.LeadingMarginSpan;
+import android.text.style.MetricAffectingSpan;
+import android.text.style.ParagraphStyle;
+import android.text.style.ReplacementSpan;
 
+import com.bluejamesbond.text.linebreak.ILineBreaker;
 import com.bluejamesbond.text.style.DirectionSpan;
 import com.bluejamesbond.text.style.TextAlignment;
 import com.bluejamesbond.text.style.TextAlignmentSpan;
 
 import junit.framework.Assert;
 
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 
 public abstract class SpannableDocumentLayout extends IDocumentLayout {
 
@@ -58,19 +73,43 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
     private static final int TOKEN_ASCENT = 4;
     private static final int TOKEN_DESCENT = 5;
     private static final int TOKEN_LINE = 6;
-    private static final int TOKEN_LENGTH = 7;
+    private static final int TOKEN_FLAGS = 7;
+    private static final int TOKEN_LENGTH = 8;
+    private static final int FLAG_REVERSE = 1;
+    private static final int LINE_START = 0;
+    private static final int LINE_END = 1;
+    private static final int LINE_TOKEN = 2;
+    private static final int LINE_ASCENT = 3;
+    private static final int LINE_DESCENT = 4;
+    private static final int LINE_LENGTH = 5;
+    private static final int PROGRESSIVE_RUN_LENGTH = 2048;
+    private static final int STREAM_CHUNK_SIZE = 8192;
+    private static final int TEXT_LINE_START = 0;
+    private static final int TEXT_LINE_END = 1;
+    private static final int TEXT_LINE_ASCENT = 2;
+    private static final int TEXT_LINE_DESCENT = 3;
+    private static final int TEXT_LINE_LENGTH = 4;
+    private static final SpannableLayoutResult EMPTY_LAYOUT = new SpannableLayoutResult(0, 0,
+            new int[0], new int[0], new float[1], new float[0], null, null,
+            new LeadingMarginSpanDrawParameters[0], null);
     private TextPaint workPaint;
-    private LinkedList<LeadingMarginSpanDrawParameters> mLeadMarginSpanDrawEvents;
-    private int[] tokens;
+    private Reader streamSource;
+    private SpannableStringBuilder streamText;
+
+    private final ThreadLocal<DrawState> drawState = new ThreadLocal<DrawState>() {
+        @Override
+        protected DrawState initialValue() {
+            return new DrawState();
+        }
+    };
 
     public SpannableDocumentLayout(Context context, TextPaint paint) {
         super(context, paint);
         workPaint = new TextPaint(paint);
-        tokens = new int[0];
     }
 
     private static int pushToken(int[] tokens, int index, int start, int end, float x, float y,
-                                 float ascent, float descent, int line) {
+                                 float ascent, float descent, int line, int flags) {
 
         Assert.assertTrue(index % TOKEN_LENGTH == 0);
 
@@ -81,6 +120,7 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
         tokens[index + TOKEN_ASCENT] = (int) ascent;
         tokens[index + TOKEN_DESCENT] = (int) descent;
         tokens[index + TOKEN_LINE] = line;
+        tokens[index + TOKEN_FLAGS] = flags;
         return index + TOKEN_LENGTH;
     }
 
@@ -94,6 +134,55 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
         return array;
     }
 
+    private static float[] ammortizeArray(float[] array, int index) {
+        if (index >= array.length) {
+            return Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+        }
+        return array;
+    }
+
+    /**
+     * Line is ONLY a <br/> or \n
+     */
+    private static boolean isLineBreak(CharSequence text, int start, int end) {
+        return start + 1 == end &&
+                (Character.getNumericValue(text.charAt(start)) == -1 || text.charAt(start) == '\n');
+    }
+
+    /**
+     * Flags of a token, resolved once so drawing needs no span queries
+     */
+    private static int getTokenFlags(Spanned text, int start, int end, boolean direction) {
+        if (!direction) {
+            return 0;
+        }
+
+        DirectionSpan[] directionSpans = text.getSpans(start, end, DirectionSpan.class);
+        return directionSpans.length > 0 && directionSpans[0].isReverse() ? FLAG_REVERSE : 0;
+    }
+
+    /**
+     * Spans that can move tokens when they change
+     */
+    private static boolean isLayoutSpan(Object span) {
+        return span instanceof MetricAffectingSpan || span instanceof ParagraphStyle ||
+                span instanceof DirectionSpan;
+    }
+
+    /**
+     * Maps an offset in the old text to the new text, or to the start of
+     * the change if it was inside the replaced range.
+     */
+    private static int mapOffset(int offset, int prefix, int oldSuffixStart, int delta) {
+        if (offset <= prefix) {
+            return offset;
+        }
+        if (offset >= oldSuffixStart) {
+            return offset + delta;
+        }
+        return prefix;
+    }
+
     private static LinkedList<Integer> tokenize(CharSequence source,
                                                 int start,
                                                 int end) {
@@ -149,34 +238,533 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
         return endCpy - start;
     }
 
-    @SuppressWarnings("ConstantConditions")
     @Override
     public boolean onMeasure(IProgress<Float> progress, ICancel<Boolean> cancelled) {
 
+        Reader source = getTextSource();
+
+        if (source != null) {
+            return measureStream(source, cancelled);
+        }
+
+        Spannable textCpy = (Spannable) this.text;
+
+        // Only the text changed, try to keep the untouched paragraphs
+        if (params.incrementalLayout && !params.changed && getLayout().measuredText != null) {
+            Boolean done = measureIncrementally(textCpy, progress, cancelled);
+
+            if (done != null) {
+                return done;
+            }
+        }
+
+        StyleRuns runs = new StyleRuns(textCpy);
+
+        float boundWidth =
+                params.getParentWidth() - params.getInsetPaddingLeft() - params.getInsetPaddingRight();
+
+        MeasureState state = new MeasureState(TOKEN_LENGTH * 1000, 100);
+        state.y = params.insetPaddingTop;
+
+        boolean done;
+
+        if (params.progressiveLayout) {
+            state.advances = new float[textCpy.length()];
+            done = measureProgressively(textCpy, runs, boundWidth, state, progress, cancelled);
+        } else {
+            TextLines textLines = new TextLines(textCpy, 0, textCpy.length(), boundWidth);
+            state.advances = textLines.advances;
+            done = measureLines(textCpy, textLines, textCpy.length(), state, progress, cancelled);
+        }
+
+        // The text is never modified, setText() copies it
+        publishLayout(newLayout(state, runs, textCpy, done && params.incrementalLayout ? textCpy : null,
+                (int) (state.y - params.lineHeightMultiplier + params.insetPaddingBottom)));
+
+        return done;
+    }
+
+    /**
+     * Reads the text source a chunk at a time and lays out each paragraph
+     * once the next one was read too, for the line-height of trailing line
+     * breaks. A reader carries no spans, so nothing later changes them.
+     * Chars read by an earlier measure, e.g. one cancelled to change the
+     * width, are laid out again first.
+     */
+    private boolean measureStream(Reader source, ICancel<Boolean> cancelled) {
+        if (streamSource != source) {
+            streamSource = source;
+            streamText = new SpannableStringBuilder();
+        }
+
+        IProgress<Float> noProgress = new IProgress<Float>() {
+            @Override
+            public void onUpdate(Float val) {
+            }
+        };
+
+        SpannableStringBuilder textCpy = streamText;
+        float boundWidth =
+                params.getParentWidth() - params.getInsetPaddingLeft() - params.getInsetPaddingRight();
+
+        MeasureState state = new MeasureState(TOKEN_LENGTH * 1000, 100);
+        state.y = params.insetPaddingTop;
+        state.advances = new float[Math.max(textCpy.length(), STREAM_CHUNK_SIZE)];
+
+        char[] buffer = new char[STREAM_CHUNK_SIZE];
+        int start = 0;
+        int read = 0;
+
+        while (true) {
+
+            if (cancelled.isCancelled()) {
+                return false;
+            }
+
+            int length = textCpy.length();
+            int end;
+            int layoutEnd;
+
+            if (read < 0) {
+                end = layoutEnd = length;
+            } else {
+                // Up to the last line break, and measured up to the one before
+                layoutEnd = length > start ? TextUtils.lastIndexOf(textCpy, '\n', start, length - 1) + 1 : 0;
+                end = layoutEnd > start + 1 ? TextUtils.lastIndexOf(textCpy, '\n', start, layoutEnd - 2) + 1 : 0;
+
+                // Paragraphs aren't complete yet, read on
+                if (end <= start) {
+                    read = readTextSource(source, buffer, 0, buffer.length);
+
+                    if (read > 0) {
+                        textCpy.append(new String(buffer, 0, read));
+                    }
+
+                    continue;
+                }
+            }
+
+            // Past maxLines the rest is only read
+            if (state.lineNumber < params.maxLines) {
+                if (state.advances.length < layoutEnd) {
+                    state.advances = Arrays.copyOf(state.advances, Math.max(layoutEnd, state.advances.length * 2));
+                }
+
+                TextLines textLines = new TextLines(textCpy, start, layoutEnd, boundWidth);
+                textLines.copyAdvances(state.advances);
+
+                if (!measureLines(textCpy, textLines, end, state, noProgress, cancelled)) {
+                    return false;
+                }
+            }
+
+            start = end;
+
+            if (read < 0) {
+                break;
+            }
+
+            // Drawn while the builder grows, so publish a copy
+            if (isPublishDue(state.y)) {
+                Spannable snapshot = new SpannableString(textCpy);
+                publishLayout(newLayout(state, new StyleRuns(snapshot), snapshot, null,
+                        estimateHeight(state.y, start)), state.y);
+            }
+        }
+
+        streamSource = null;
+        streamText = null;
+
+        if (!finishTextSource(source, textCpy)) {
+            return false;
+        }
+
+        Spannable fullText = (Spannable) this.text;
+        state.advances = Arrays.copyOf(state.advances, fullText.length());
+        publishLayout(newLayout(state, new StyleRuns(fullText), fullText,
+                params.incrementalLayout ? fullText : null,
+                (int) (state.y - params.lineHeightMultiplier + params.insetPaddingBottom)));
+
+        return true;
+    }
+
+    /**
+     * Lays out the text in growing runs of whole paragraphs and publishes the
+     * lines measured so far, so the top can be drawn before the rest is done.
+     */
+    private boolean measureProgressively(Spannable textCpy, StyleRuns runs, float boundWidth,
+                                         MeasureState state,
+                                         final IProgress<Float> progress,
+                                         ICancel<Boolean> cancelled) {
+
+        final int length = textCpy.length();
+        int runLength = PROGRESSIVE_RUN_LENGTH;
+
+        for (int start = 0; start < length && state.lineNumber < params.maxLines; runLength *= 2) {
+
+            int end = TextUtils.indexOf(textCpy, '\n', Math.min(start + runLength, length)) + 1;
+            end = end == 0 ? length : end;
+
+            // Include the next paragraph for the line-height of trailing line breaks
+            int layoutEnd = end < length ? TextUtils.indexOf(textCpy, '\n', end) + 1 : length;
+            layoutEnd = layoutEnd == 0 ? length : layoutEnd;
+
+            TextLines textLines = new TextLines(textCpy, start, layoutEnd, boundWidth);
+            textLines.copyAdvances(state.advances);
+
+            final float runStart = (float) start / length;
+            final float runSize = (float) (end - start) / length;
+
+            IProgress<Float> runProgress = new IProgress<Float>() {
+                @Override
+                public void onUpdate(Float val) {
+                    progress.onUpdate(runStart + val * runSize);
+                }
+            };
+
+            if (!measureLines(textCpy, textLines, end, state, runProgress, cancelled)) {
+                return false;
+            }
+
+            start = end;
+
+            if (start < length && isPublishDue(state.y)) {
+                publishLayout(newLayout(state, runs, textCpy, null, estimateHeight(state.y, start)), state.y);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Re-measures only the paragraphs that changed since the last measure and
+     * moves everything after them. Returns null if a full measure is required.
+     */
+    private Boolean measureIncrementally(Spannable textCpy, IProgress<Float> progress,
+                                         ICancel<Boolean> cancelled) {
+
+        // Line limits depend on everything before
+        if (params.maxLines != Integer.MAX_VALUE) {
+            return null;
+        }
+
+        SpannableLayoutResult layout = getLayout();
+        Spannable oldText = layout.measuredText;
+        int oldLength = oldText.length();
+        int newLength = textCpy.length();
+
+        // Find the common prefix and suffix
+        int prefix = 0;
+        int maxPrefix = Math.min(oldLength, newLength);
+        while (prefix < maxPrefix && oldText.charAt(prefix) == textCpy.charAt(prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix &&
+                oldText.charAt(oldLength - 1 - suffix) == textCpy.charAt(newLength - 1 - suffix)) {
+            suffix++;
+        }
+
+        // Grow the range to cover the spans that moved or changed
+        int[] dirty = getDirtyRange(oldText, textCpy, prefix, oldLength - suffix, newLength - suffix);
+        int deltaText = newLength - oldLength;
+
+        // Nothing to move, only the style runs can differ
+        if (dirty[0] >= dirty[1] && oldLength == newLength) {
+            publishLayout(new SpannableLayoutResult(layout.lineCount, layout.measuredHeight, layout.tokens,
+                    layout.lines, layout.lineTops, layout.advances,
+                    new StyleRuns(layout.styleRuns, textCpy, dirty[2], dirty[3] - deltaText, dirty[3]),
+                    textCpy, layout.leadMarginSpanDrawEvents, textCpy));
+            return true;
+        }
+
+        // Expand to whole paragraphs, plus the line breaks right before
+        // since they use the line-height of the next line
+        int start = dirty[0] == 0 ? 0 : TextUtils.lastIndexOf(textCpy, '\n', dirty[0] - 1) + 1;
+        while (start > 0 && (start == 1 || textCpy.charAt(start - 2) == '\n')) {
+            start--;
+        }
+
+        int oldEnd = TextUtils.indexOf(oldText, '\n', oldLength - (newLength - dirty[1])) + 1;
+        oldEnd = oldEnd == 0 ? oldLength : oldEnd;
+        int newEnd = oldEnd + newLength - oldLength;
+
+        // LeadingMarginSpan2 counts lines across paragraphs
+        if (hasSpanAcross(textCpy, start) || hasSpanAcross(textCpy, newEnd)) {
+            return null;
+        }
+
+        int[] tokens = layout.tokens;
+        int[] lines = layout.lines;
+        float[] lineTops = layout.lineTops;
+        int lineCount = layout.lineCount;
+        int firstLine = layout.getLineStartingFrom(start);
+        int lastLine = layout.getLineStartingFrom(oldEnd);
+
+        // Paragraphs must start on a line
+        if ((firstLine < lineCount && lines[firstLine * LINE_LENGTH + LINE_START] != start) ||
+                (lastLine < lineCount && lines[lastLine * LINE_LENGTH + LINE_START] != oldEnd)) {
+            return null;
+        }
+
+        float boundWidth =
+                params.getParentWidth() - params.getInsetPaddingLeft() - params.getInsetPaddingRight();
+
+        // Include the next paragraph for the line-height of trailing line breaks
+        int layoutEnd = TextUtils.indexOf(textCpy, '\n', newEnd) + 1;
+        layoutEnd = layoutEnd == 0 ? newLength : layoutEnd;
+
+        TextLines textLines = new TextLines(textCpy, start, layoutEnd, boundWidth);
+
+        // Advances only depend on the characters and their spans
+        float[] newAdvances = new float[newLength];
+        System.arraycopy(layout.advances, 0, newAdvances, 0, start);
+        System.arraycopy(layout.advances, oldEnd, newAdvances, newEnd, oldLength - oldEnd);
+        textLines.copyAdvances(newAdvances);
+
+        // Keep everything before the changed paragraphs
+        int headIndex = layout.getFirstTokenForLine(firstLine);
+        MeasureState state = new MeasureState(headIndex + TOKEN_LENGTH * 1000, firstLine + 100);
+        System.arraycopy(tokens, 0, state.tokens, 0, headIndex);
+        System.arraycopy(lines, 0, state.lines, 0, firstLine * LINE_LENGTH);
+        System.arraycopy(lineTops, 0, state.lineTops, 0, firstLine);
+
+        for (LeadingMarginSpanDrawParameters parameters : layout.leadMarginSpanDrawEvents) {
+            if (parameters.line < firstLine) {
+                state.leadMarginSpanDrawEvents.add(parameters);
+            }
+        }
+
+        state.index = headIndex;
+        state.lineNumber = firstLine;
+        state.y = lineTops[firstLine];
+        state.enableLineBreak = firstLine == 0 ? 0 : 1;
+
+        if (!measureLines(textCpy, textLines, newEnd, state, progress, cancelled)) {
+            return false;
+        }
+
+        // Move everything after the changed paragraphs
+        int tailIndex = layout.getFirstTokenForLine(lastLine);
+        int deltaLine = state.lineNumber - lastLine;
+        int deltaIndex = state.index - tailIndex;
+        int newLineCount = lineCount + deltaLine;
+        float lineHeightAdd = params.lineHeightMultiplier;
+        float y = state.y;
+
+        int[] newTokens = Arrays.copyOf(state.tokens, tokens.length + deltaIndex);
+        int[] newLines = Arrays.copyOf(state.lines, newLineCount * LINE_LENGTH);
+        float[] newLineTops = Arrays.copyOf(state.lineTops, newLineCount + 1);
+
+        System.arraycopy(tokens, tailIndex, newTokens, state.index, tokens.length - tailIndex);
+        System.arraycopy(lines, lastLine * LINE_LENGTH, newLines, state.lineNumber * LINE_LENGTH,
+                (lineCount - lastLine) * LINE_LENGTH);
+
+        for (int line = state.lineNumber; line < newLineCount; line++) {
+            int offset = line * LINE_LENGTH;
+
+            newLines[offset + LINE_START] += deltaText;
+            newLines[offset + LINE_END] += deltaText;
+            newLines[offset + LINE_TOKEN] += deltaIndex;
+            newLineTops[line] = y;
+
+            // Same steps as measureLines so the positions match
+            if (isLineBreak(textCpy, newLines[offset + LINE_START], newLines[offset + LINE_END])) {
+                y += newLines[offset + LINE_ASCENT];
+                continue;
+            }
+
+            float lastAscent = newLines[offset + LINE_ASCENT];
+            float lastDescent = newLines[offset + LINE_DESCENT] + lineHeightAdd;
+            int tokenEnd = line + 1 < newLineCount ?
+                    newLines[offset + LINE_LENGTH + LINE_TOKEN] + deltaIndex : newTokens.length;
+
+            y += lastAscent;
+
+            for (int index = newLines[offset + LINE_TOKEN]; index < tokenEnd; index += TOKEN_LENGTH) {
+                newTokens[index + TOKEN_START] += deltaText;
+                newTokens[index + TOKEN_END] += deltaText;
+                newTokens[index + TOKEN_Y] = (int) y;
+                newTokens[index + TOKEN_LINE] = line;
+            }
+
+            y += lastDescent;
+        }
+
+        newLineTops[newLineCount] = y;
+
+        for (LeadingMarginSpanDrawParameters parameters : layout.leadMarginSpanDrawEvents) {
+            if (parameters.line < lastLine) {
+                continue;
+            }
+
+            int line = parameters.line + deltaLine;
+            float lastAscent = newLines[line * LINE_LENGTH + LINE_ASCENT];
+            float lastDescent = newLines[line * LINE_LENGTH + LINE_DESCENT] + lineHeightAdd;
+            float baseline = newLineTops[line] + lastAscent;
+
+            state.leadMarginSpanDrawEvents.add(new LeadingMarginSpanDrawParameters(parameters.span,
+                    parameters.x, parameters.dir, (int) (baseline - lastAscent), (int) baseline,
+                    (int) (baseline + lastDescent), parameters.start + deltaText,
+                    parameters.end + deltaText, parameters.first, line));
+        }
+
+        // Style runs only change in the measured paragraphs and where character styles changed
+        int runsStart = Math.min(start, dirty[2]);
+        int runsEnd = Math.max(newEnd, dirty[3]);
+        StyleRuns runs = new StyleRuns(layout.styleRuns, textCpy, runsStart, runsEnd - deltaText, runsEnd);
+
+        publishLayout(new SpannableLayoutResult(newLineCount, (int) (y - lineHeightAdd + params.insetPaddingBottom),
+                newTokens, newLines, newLineTops, newAdvances, runs, textCpy,
+                toDrawEvents(state.leadMarginSpanDrawEvents), textCpy));
+
+        return true;
+    }
+
+    /**
+     * Returns the range of the new text that differs from the old text, either
+     * in characters or in spans that change the layout, followed by the range
+     * whose character styles changed. Only the spans of the paragraphs around
+     * the changed characters are compared, the others moved along with the
+     * text. If no characters changed, all spans are.
+     */
+    private int[] getDirtyRange(Spanned oldText, Spanned newText, int prefix, int oldSuffixStart,
+                                int newSuffixStart) {
+
+        int delta = newSuffixStart - oldSuffixStart;
+        int[] dirty = new int[]{prefix, newSuffixStart, prefix, newSuffixStart};
+
+        int windowStart = 0;
+        int windowEnd = newText.length();
+
+        if (prefix < oldSuffixStart || prefix < newSuffixStart) {
+            windowStart = prefix == 0 ? 0 : TextUtils.lastIndexOf(newText, '\n', prefix - 1) + 1;
+            windowEnd = TextUtils.indexOf(newText, '\n', newSuffixStart) + 1;
+            windowEnd = windowEnd == 0 ? newText.length() : windowEnd;
+        }
+
+        IdentityHashMap<Object, int[]> oldSpans = new IdentityHashMap<>();
+
+        for (Object span : oldText.getSpans(windowStart, windowEnd - delta, Object.class)) {
+            if (isLayoutSpan(span) || span instanceof CharacterStyle) {
+                oldSpans.put(span, new int[]{
+                        mapOffset(oldText.getSpanStart(span), prefix, oldSuffixStart, delta),
+                        mapOffset(oldText.getSpanEnd(span), prefix, oldSuffixStart, delta)});
+            }
+        }
+
+        for (Object span : newText.getSpans(windowStart, windowEnd, Object.class)) {
+            if (!isLayoutSpan(span) && !(span instanceof CharacterStyle)) {
+                continue;
+            }
+
+            int spanStart = newText.getSpanStart(span);
+            int spanEnd = newText.getSpanEnd(span);
+            int[] oldRange = oldSpans.remove(span);
+
+            // Moved in from outside the compared paragraphs
+            if (oldRange == null && oldText.getSpanStart(span) >= 0) {
+                oldRange = new int[]{
+                        mapOffset(oldText.getSpanStart(span), prefix, oldSuffixStart, delta),
+                        mapOffset(oldText.getSpanEnd(span), prefix, oldSuffixStart, delta)};
+            }
+
+            // Same span, same place
+            if (oldRange != null && oldRange[0] == spanStart && oldRange[1] == spanEnd) {
+                continue;
+            }
+
+            addDirtySpan(dirty, span, spanStart, spanEnd);
+
+            if (oldRange != null) {
+                addDirtySpan(dirty, span, oldRange[0], oldRange[1]);
+            }
+        }
+
+        // Removed spans, or moved out of the compared paragraphs
+        for (Map.Entry<Object, int[]> entry : oldSpans.entrySet()) {
+            Object span = entry.getKey();
+            int[] oldRange = entry.getValue();
+            int spanStart = newText.getSpanStart(span);
+            int spanEnd = newText.getSpanEnd(span);
+
+            if (spanStart == oldRange[0] && spanEnd == oldRange[1]) {
+                continue;
+            }
+
+            addDirtySpan(dirty, span, oldRange[0], oldRange[1]);
+
+            if (spanStart >= 0) {
+                addDirtySpan(dirty, span, spanStart, spanEnd);
+            }
+        }
+
+        return dirty;
+    }
+
+    /**
+     * Grows the dirty layout range, or the dirty style range, or both to the span
+     */
+    private static void addDirtySpan(int[] dirty, Object span, int start, int end) {
+        if (isLayoutSpan(span)) {
+            dirty[0] = Math.min(dirty[0], start);
+            dirty[1] = Math.max(dirty[1], end);
+        }
+
+        if (span instanceof CharacterStyle) {
+            dirty[2] = Math.min(dirty[2], start);
+            dirty[3] = Math.max(dirty[3], end);
+        }
+    }
+
+    /**
+     * If a LeadingMarginSpan2 starts before the offset and ends after it
+     */
+    private static boolean hasSpanAcross(Spanned text, int offset) {
+        for (LeadingMarginSpan.LeadingMarginSpan2 span :
+                text.getSpans(offset, offset, LeadingMarginSpan.LeadingMarginSpan2.class)) {
+            if (text.getSpanStart(span) < offset && text.getSpanEnd(span) > offset) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Lays out the broken lines starting from the given state,
+     * stopping at the first line that starts at or after rangeEnd.
+     */
+    @SuppressWarnings("ConstantConditions")
+    private boolean measureLines(Spannable textCpy, TextLines textLines, int rangeEnd,
+                                 MeasureState state, IProgress<Float> progress,
+                                 ICancel<Boolean> cancelled) {
+
         boolean done = true;
         float parentWidth = params.getParentWidth();
         float boundWidth =
                 params.getParentWidth() - params.getInsetPaddingLeft() - params.getInsetPaddingRight();
 
-        mLeadMarginSpanDrawEvents = new LinkedList<>();
-
-        StaticLayout staticLayout = new StaticLayout(getText(), (TextPaint) getPaint(),
-                (int) boundWidth, Layout.Alignment.ALIGN_NORMAL, 1, 0, false);
-        int[] newTokens = new int[TOKEN_LENGTH * 1000];
+        int[] newTokens = state.tokens;
+        int[] newLines = state.lines;
+        float[] newLineTops = state.lineTops;
+        LinkedList<LeadingMarginSpanDrawParameters> leadMarginSpanDrawEvents =
+                state.leadMarginSpanDrawEvents;
         LeadingMarginSpan[] activeLeadSpans = new LeadingMarginSpan[0];
-        HashMap<LeadingMarginSpan, Integer> leadSpans = new HashMap<>();
+        HashMap<LeadingMarginSpan, Integer> leadSpans = state.leadSpans;
         TextAlignment defAlign = params.textAlignment;
-        Spannable textCpy = (Spannable) this.text;
-        Paint.FontMetricsInt fmi = paint.getFontMetricsInt();
 
         int maxTextIndex = textCpy.length() - 1;
-        int lines = staticLayout.getLineCount();
-        int enableLineBreak = 0;
-        int index = 0;
-        int lineNumber;
+        int lines = textLines.getLineCount();
+        int enableLineBreak = state.enableLineBreak;
+        int index = state.index;
+        int lineNumber = state.lineNumber;
+        int layoutLine;
 
         float x;
-        float y = params.insetPaddingTop;
+        float y = state.y;
         float left = params.insetPaddingLeft;
         float right = params.insetPaddingRight;
         float lineHeightAdd = params.lineHeightMultiplier;
@@ -186,33 +774,43 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
         boolean isParaStart = true;
         boolean isReverse = params.reverse;
 
-        for (lineNumber = 0; lineNumber < lines; lineNumber++) {
+        for (layoutLine = 0; layoutLine < lines; layoutLine++, lineNumber++) {
 
             if (cancelled.isCancelled()) {
                 done = false;
                 break;
             }
 
-            progress.onUpdate((float) lineNumber / (float) lines);
+            progress.onUpdate((float) layoutLine / (float) lines);
 
             newTokens = ammortizeArray(newTokens, index);
 
-            int start = staticLayout.getLineStart(lineNumber);
-            int end = staticLayout.getLineEnd(lineNumber);
+            int start = textLines.getLineStart(layoutLine);
+            int end = textLines.getLineEnd(layoutLine);
 
             float realWidth = boundWidth;
 
             if (params.debugging) {
-                Console.log(start + " => " + end + " :: " + " " + -staticLayout.getLineAscent(lineNumber)
-                        + " " + staticLayout.getLineDescent(lineNumber) + " " + textCpy.subSequence(start, end)
+                Console.log(start + " => " + end + " :: " + " " + -textLines.getLineAscent(layoutLine)
+                        + " " + textLines.getLineDescent(layoutLine) + " " + textCpy.subSequence(start, end)
                         .toString());
             }
 
             // start == end => end of textCpy
-            if (start == end || lineNumber >= params.maxLines) {
+            if (start == end || start >= rangeEnd || lineNumber >= params.maxLines) {
                 break;
             }
 
+            // Remember where the line is
+            newLines = ammortizeArray(newLines, (lineNumber + 1) * LINE_LENGTH);
+            newLineTops = ammortizeArray(newLineTops, lineNumber + 1);
+            newLines[lineNumber * LINE_LENGTH + LINE_START] = start;
+            newLines[lineNumber * LINE_LENGTH + LINE_END] = end;
+            newLines[lineNumber * LINE_LENGTH + LINE_TOKEN] = index;
+            newLines[lineNumber * LINE_LENGTH + LINE_ASCENT] = -textLines.getLineAscent(layoutLine);
+            newLines[lineNumber * LINE_LENGTH + LINE_DESCENT] = textLines.getLineDescent(layoutLine);
+            newLineTops[lineNumber] = y;
+
             // Get textCpy alignment for the line
             TextAlignmentSpan[] textAlignmentSpans =
                     textCpy.getSpans(start, end, TextAlignmentSpan.class);
@@ -220,28 +818,31 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
                     textAlignmentSpans[0].getTextAlignment();
 
             // Calculate components of line height
-            lastAscent = -staticLayout.getLineAscent(lineNumber);
-            lastDescent = staticLayout.getLineDescent(lineNumber) + lineHeightAdd;
+            lastAscent = -textLines.getLineAscent(layoutLine);
+            lastDescent = textLines.getLineDescent(layoutLine) + lineHeightAdd;
 
             // Handle reverse
             DirectionSpan[] directionSpans = textCpy.getSpans(start, end, DirectionSpan.class);
             isReverse = directionSpans.length > 0 ? directionSpans[0].isReverse() : params.reverse;
+            boolean hasDirection = directionSpans.length > 0;
 
-            // Line is ONLY a <br/> or \n
-            if (start + 1 == end &&
-                    (Character.getNumericValue(textCpy.charAt(start)) == -1 ||
-                            textCpy.charAt(start) == '\n')) {
+            if (isLineBreak(textCpy, start, end)) {
 
                 // Line break indicates a new paragraph
                 // is next
                 isParaStart = true;
 
                 // Use the line-height of the next line
-                if (lineNumber + 1 < lines) {
-                    y += enableLineBreak * (-staticLayout.getLineAscent(lineNumber + 1) + staticLayout
-                            .getLineDescent(lineNumber + 1));
+                int lineBreakHeight = 0;
+                if (layoutLine + 1 < lines) {
+                    lineBreakHeight = enableLineBreak * (-textLines.getLineAscent(layoutLine + 1) +
+                            textLines.getLineDescent(layoutLine + 1));
                 }
 
+                y += lineBreakHeight;
+                newLines[lineNumber * LINE_LENGTH + LINE_ASCENT] = lineBreakHeight;
+                newLines[lineNumber * LINE_LENGTH + LINE_DESCENT] = 0;
+
                 // Don't ignore the next line breaks
                 enableLineBreak = 1;
 
@@ -315,10 +916,10 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
                 // Update only if the valid next valid
                 if (spanLines > 0 || spanLines == -1) {
                     leadSpans.put(leadSpan, spanLines == -1 ? -1 : spanLines - 1);
-                    mLeadMarginSpanDrawEvents
+                    leadMarginSpanDrawEvents
                             .add(new LeadingMarginSpanDrawParameters(leadSpan, (int) calcX,
                                     lineAlignmentVal, top, baseline,
-                                    bottom, start, end, isParaStart));
+                                    bottom, start, end, isParaStart, lineNumber));
 
                     // Is margin required?
                     totalMargin += leadSpan.getLeadingMargin(isParaStart);
@@ -343,21 +944,24 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
 
             switch (lineTextAlignment) {
                 case RIGHT: {
-                    float lineWidth = Styled.measureText(paint, workPaint, textCpy, start, end, fmi);
+                    float lineWidth = textLines.measure(start, end);
                     index = pushToken(newTokens, index, start, end, parentWidth - x - lineWidth, y,
-                            lastAscent, lastDescent, lineNumber);
+                            lastAscent, lastDescent, lineNumber,
+                            getTokenFlags(textCpy, start, end, hasDirection));
                     y += lastDescent;
                     continue;
                 }
                 case CENTER: {
-                    float lineWidth = Styled.measureText(paint, workPaint, textCpy, start, end, fmi);
+                    float lineWidth = textLines.measure(start, end);
                     index = pushToken(newTokens, index, start, end, x + (realWidth - lineWidth) / 2,
-                            y, lastAscent, lastDescent, lineNumber);
+                            y, lastAscent, lastDescent, lineNumber,
+                            getTokenFlags(textCpy, start, end, hasDirection));
                     y += lastDescent;
                     continue;
                 }
                 case LEFT: {
-                    index = pushToken(newTokens, index, start, end, x, y, lastAscent, lastDescent, lineNumber);
+                    index = pushToken(newTokens, index, start, end, x, y, lastAscent, lastDescent, lineNumber,
+                            getTokenFlags(textCpy, start, end, hasDirection));
                     y += lastDescent;
                     continue;
                 }
@@ -380,8 +984,7 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
                     float sum = 0.0f, textsOffset = 0.0f, offset;
                     int m = 0;
 
-                    Styled.getTextWidths(paint, workPaint, textCpy, start,
-                            stop, textWidths, fmi);
+                    textLines.getAdvances(start, stop, textWidths);
 
                     for (float tw : textWidths) {
                         sum += tw;
@@ -391,7 +994,8 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
 
                     for (int k = start; k < stop; k++) {
                         index = pushToken(newTokens, index, k, k + 1,
-                                x + textsOffset + (offset * m), y, lastAscent, lastDescent, lineNumber);
+                                x + textsOffset + (offset * m), y, lastAscent, lastDescent, lineNumber,
+                                getTokenFlags(textCpy, k, k + 1, hasDirection));
                         newTokens = ammortizeArray(newTokens, index);
                         textsOffset += textWidths[m++];
                     }
@@ -425,12 +1029,11 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
 
                 for (int stop : tokenized) {
 
-                    float wordWidth = Styled.measureText(paint, workPaint, textCpy,
-                            start, stop, fmi);
+                    float wordWidth = textLines.measure(start, stop);
 
                     // add word
                     index = pushToken(newTokens, index, start, stop, rtlRight + rtlMul * (x + lineWidth + rtlZero * wordWidth), y, lastAscent,
-                            lastDescent, lineNumber);
+                            lastDescent, lineNumber, getTokenFlags(textCpy, start, stop, hasDirection));
 
                     lineWidth += wordWidth;
 
@@ -463,150 +1066,238 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
             y += lastDescent;
         }
 
-        lineCount = lineNumber;
-        tokens = newTokens;
-        params.changed = false;
-        textChange = !done;
-        measuredHeight = (int) (y - lineHeightAdd + params.insetPaddingBottom);
+        state.tokens = newTokens;
+        state.lines = newLines;
+        state.lineTops = newLineTops;
+        state.index = index;
+        state.lineNumber = lineNumber;
+        state.enableLineBreak = enableLineBreak;
+        state.y = y;
 
         return done;
     }
 
+    /**
+     * Copies the lines measured so far into a layout to publish
+     */
+    private SpannableLayoutResult newLayout(MeasureState state, StyleRuns runs, Spannable textCpy,
+                                            Spannable measuredText, int measuredHeight) {
+        int lineCount = state.lineNumber;
+        float[] lineTops = Arrays.copyOf(state.lineTops, lineCount + 1);
+        lineTops[lineCount] = state.y;
+
+        return new SpannableLayoutResult(lineCount, measuredHeight, Arrays.copyOf(state.tokens, state.index),
+                Arrays.copyOf(state.lines, lineCount * LINE_LENGTH), lineTops, state.advances, runs, textCpy,
+                toDrawEvents(state.leadMarginSpanDrawEvents), measuredText);
+    }
+
     @Override
-    public void onDraw(Canvas canvas, int scrollTop, int scrollBottom) {
+    protected SpannableLayoutResult getLayout() {
+        LayoutResult layout = super.getLayout();
+        return layout instanceof SpannableLayoutResult ? (SpannableLayoutResult) layout : EMPTY_LAYOUT;
+    }
+
+    @Override
+    public void onDraw(Canvas canvas, int scrollTop, int scrollBottom, TextPaint paint,
+                       ICancel<Boolean> cancelled) {
+
+        SpannableLayoutResult layout = getLayout();
+        int[] tokens = layout.tokens;
 
         if (tokens.length < TOKEN_LENGTH) {
             return;
         }
 
-        Spannable textCpy = (Spannable) this.text;
-        int startIndex = getTokenForVertical(scrollTop, TokenPosition.START_OF_LINE);
-        int endIndex = getTokenForVertical(scrollBottom, TokenPosition.END_OF_LINE);
+        Spannable textCpy = layout.layoutText;
+        DrawState state = drawState.get();
+        state.paint = paint;
+        state.tokens = tokens;
+        state.advances = layout.advances;
+        state.styleRuns = layout.styleRuns;
+
+        int firstLine = layout.getLineForVertical(scrollTop);
+        int lastLine = layout.getLineForVertical(scrollBottom);
 
-        boolean defIsReverse = false;
+        LeadingMarginSpanDrawParameters[] drawEvents = layout.leadMarginSpanDrawEvents;
 
-        for (LeadingMarginSpanDrawParameters parameters : mLeadMarginSpanDrawEvents) {
-            // FIXME sort by Y and break out of loop
-            int top = parameters.top - scrollTop;
-            int bottom = parameters.bottom - scrollTop;
-            if (bottom < 0 || top > scrollBottom) continue;
+        for (int event = getDrawEventForVertical(drawEvents, scrollTop);
+             event < drawEvents.length && drawEvents[event].top <= scrollBottom; event++) {
+            LeadingMarginSpanDrawParameters parameters = drawEvents[event];
             parameters.span.drawLeadingMargin(canvas, paint, parameters.x,
-                    parameters.dir, top, parameters.baseline,
-                    bottom, textCpy, parameters.start,
+                    parameters.dir, parameters.top - scrollTop, parameters.baseline,
+                    parameters.bottom - scrollTop, textCpy, parameters.start,
                     parameters.end, parameters.first, null);
         }
 
-        int lastEndIndexY = tokens[endIndex + TOKEN_Y];
-        int diffEndIndexYCount = 1;
+        for (int line = firstLine; line <= lastLine; line++) {
+            if (cancelled.isCancelled()) {
+                break;
+            }
+
+            int first = layout.getFirstTokenForLine(line);
+            int last = layout.getFirstTokenForLine(line + 1);
 
-        // FIXME Find next pos-y
-        for (int s = endIndex; diffEndIndexYCount > 0 && s < tokens.length; s += TOKEN_LENGTH) {
-            endIndex += TOKEN_LENGTH;
-            if (lastEndIndexY != tokens[s + TOKEN_Y]) {
-                diffEndIndexYCount--;
-                lastEndIndexY = tokens[s + TOKEN_Y];
+            // Line breaks have no tokens
+            if (first == last) {
+                continue;
             }
-        }
 
-        for (int index = startIndex; index < endIndex; index += TOKEN_LENGTH) {
-            if (tokens[index + TOKEN_START] == Integer.MAX_VALUE) break;
-            DirectionSpan[] directionSpans = textCpy.getSpans(tokens[index + TOKEN_START], tokens[index + TOKEN_END], DirectionSpan.class);
-            Styled.drawText(canvas, textCpy, tokens[index + TOKEN_START],
-                    tokens[index + TOKEN_END], Layout.DIR_LEFT_TO_RIGHT, directionSpans.length > 0 ? directionSpans[0].isReverse() : defIsReverse,
-                    tokens[index + TOKEN_X], 0,
-                    tokens[index + TOKEN_Y] - scrollTop, 0, paint, workPaint, false);
+            state.drawLine(canvas, textCpy, first, last, scrollTop);
+
             if (params.debugging) {
                 int lastColor = paint.getColor();
                 float lastStrokeWidth = paint.getStrokeWidth();
                 paint.setStrokeWidth(2);
-                paint.setColor(Color.GREEN);
-                canvas.drawLine(0, tokens[index + TOKEN_Y] - tokens[index + TOKEN_ASCENT] - scrollTop,
-                        params.parentWidth, tokens[index + TOKEN_Y] - tokens[index + TOKEN_ASCENT] - scrollTop,
-                        paint);
-                paint.setColor(Color.CYAN);
-                canvas.drawLine(0, tokens[index + TOKEN_Y] + tokens[index + TOKEN_DESCENT] - scrollTop,
-                        params.parentWidth, tokens[index + TOKEN_Y] + tokens[index + TOKEN_DESCENT] - scrollTop,
-                        paint);
+
+                for (int index = first; index < last; index += TOKEN_LENGTH) {
+                    paint.setColor(Color.GREEN);
+                    canvas.drawLine(0, tokens[index + TOKEN_Y] - tokens[index + TOKEN_ASCENT] - scrollTop,
+                            params.parentWidth, tokens[index + TOKEN_Y] - tokens[index + TOKEN_ASCENT] - scrollTop,
+                            paint);
+                    paint.setColor(Color.CYAN);
+                    canvas.drawLine(0, tokens[index + TOKEN_Y] + tokens[index + TOKEN_DESCENT] - scrollTop,
+                            params.parentWidth, tokens[index + TOKEN_Y] + tokens[index + TOKEN_DESCENT] - scrollTop,
+                            paint);
+                }
+
                 paint.setColor(lastColor);
                 paint.setStrokeWidth(lastStrokeWidth);
             }
         }
-    }
 
-    @Override
-    public float getTokenAscent(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_ASCENT];
+        // The state is kept for the next render on this thread, the layout isn't
+        state.paint = null;
+        state.tokens = null;
+        state.advances = null;
+        state.styleRuns = null;
     }
 
-    @Override
-    public float getTokenDescent(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_DESCENT];
+    /**
+     * Leading margin events in line order, so sorted by y
+     */
+    private static LeadingMarginSpanDrawParameters[] toDrawEvents(
+            LinkedList<LeadingMarginSpanDrawParameters> events) {
+        return events.toArray(new LeadingMarginSpanDrawParameters[events.size()]);
     }
 
-    @Override
-    public int getTokenForVertical(float y, TokenPosition position) {
-        int high = Math.max(0, tokens.length - 1);
+    /**
+     * Returns the first event with its bottom at or below y
+     */
+    private static int getDrawEventForVertical(LeadingMarginSpanDrawParameters[] events, int y) {
         int low = 0;
+        int high = events.length;
 
-        while (low + 1 < high) {
-            int mid = (high + low) / 2;
-            int midx = mid - (mid % TOKEN_LENGTH);
-            int fY = tokens[midx + TOKEN_Y];
-
-            if (fY > y) {
-                high = mid;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (events[mid].bottom < y) {
+                low = mid + 1;
             } else {
-                low = mid;
+                high = mid;
             }
         }
 
-        switch (position) {
-            default:
-            case START_OF_LINE: {
-                low -= low % TOKEN_LENGTH;
-                for (int s = low; s > 0 && tokens[s + TOKEN_Y] >= y; s -= TOKEN_LENGTH) {
-                    low -= TOKEN_LENGTH;
-                }
-                return low;
-            }
-            case END_OF_LINE: {
-                high -= high % TOKEN_LENGTH;
-                for (int s = high; s + TOKEN_LENGTH < tokens.length && tokens[s + TOKEN_Y] <= y; s += TOKEN_LENGTH) {
-                    high += TOKEN_LENGTH;
-                }
-                return high;
-            }
-        }
+        return low;
+    }
+
+    /**
+     * If the char has to be shaped together with the ones around it, e.g.
+     * joining scripts, combining marks or surrogate pairs
+     */
+    private static boolean needsShaping(char c) {
+        return c >= 0x0300 && !(c >= 0x0370 && c < 0x0590) && !(c >= 0x1E00 && c < 0x2000) &&
+                !(c >= 0x2010 && c < 0x20D0) && !(c >= 0x2100 && c < 0xA800) &&
+                !(c >= 0xAC00 && c < 0xD800) && !(c >= 0xFF00 && c < 0xFFF0);
+    }
+
+    @Override
+    public float getTokenAscent(int tokenIndex) {
+        return getLayout().tokens[tokenIndex + TOKEN_ASCENT];
+    }
+
+    @Override
+    public float getTokenDescent(int tokenIndex) {
+        return getLayout().tokens[tokenIndex + TOKEN_DESCENT];
+    }
+
+    @Override
+    public int getTokenForVertical(float y, TokenPosition position) {
+        SpannableLayoutResult layout = getLayout();
+        int line = layout.getLineForVertical(y);
+        int index = position == TokenPosition.END_OF_LINE ?
+                layout.getFirstTokenForLine(line + 1) - TOKEN_LENGTH : layout.getFirstTokenForLine(line);
+
+        return Math.max(0, Math.min(index, layout.tokens.length - TOKEN_LENGTH));
+    }
+
+    @Override
+    public int getLineForVertical(float y) {
+        return getLayout().getLineForVertical(y);
+    }
+
+    @Override
+    public float getLineTop(int line) {
+        SpannableLayoutResult layout = getLayout();
+        return layout.lineTops[Math.max(0, Math.min(line, layout.lineCount))];
+    }
+
+    @Override
+    public float getLineBaseline(int line) {
+        SpannableLayoutResult layout = getLayout();
+        return layout.lineTops[line] + layout.lines[line * LINE_LENGTH + LINE_ASCENT];
+    }
+
+    @Override
+    public int getLineFirstToken(int line) {
+        return getLayout().getFirstTokenForLine(line);
+    }
+
+    @Override
+    public int getLineTokenCount(int line) {
+        SpannableLayoutResult layout = getLayout();
+        return (layout.getFirstTokenForLine(line + 1) - layout.getFirstTokenForLine(line)) / TOKEN_LENGTH;
+    }
+
+    @Override
+    public int getNextToken(int tokenIndex) {
+        return tokenIndex + TOKEN_LENGTH;
     }
 
     @Override
     public int getLineForToken(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_LINE];
+        return getLayout().tokens[tokenIndex + TOKEN_LINE];
+    }
+
+    @Override
+    public int getLineForOffset(int offset) {
+        SpannableLayoutResult layout = getLayout();
+        return Math.max(0, Math.min(layout.getLineStartingFrom(offset + 1) - 1, layout.lineCount - 1));
     }
 
     @Override
     public int getTokenStart(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_START];
+        return getLayout().tokens[tokenIndex + TOKEN_START];
     }
 
     @Override
     public int getTokenEnd(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_END];
+        return getLayout().tokens[tokenIndex + TOKEN_END];
     }
 
     @Override
     public float getTokenTopAt(int tokenIndex) {
-        return tokens[tokenIndex + TOKEN_Y];
+        return getLayout().tokens[tokenIndex + TOKEN_Y];
     }
 
     @Override
     public CharSequence getTokenTextAt(int index) {
-        return text.subSequence(tokens[index + TOKEN_START], tokens[index + TOKEN_END]);
+        SpannableLayoutResult layout = getLayout();
+        return layout.layoutText.subSequence(layout.tokens[index + TOKEN_START],
+                layout.tokens[index + TOKEN_END]);
     }
 
     @Override
     public boolean isTokenized() {
-        return tokens != null;
+        return getLayout().tokens != null;
     }
 
     /**
@@ -623,6 +1314,7 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
         public int start;
         public int end;
         public boolean first;
+        public int line;
         public LeadingMarginSpan span;
 
         public LeadingMarginSpanDrawParameters(LeadingMarginSpan span,
@@ -633,7 +1325,8 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
                                                int bottom,
                                                int start,
                                                int end,
-                                               boolean first) {
+                                               boolean first,
+                                               int line) {
             this.span = span;
             this.x = x;
             this.dir = dir;
@@ -643,6 +1336,695 @@ public abstract class SpannableDocumentLayout extends IDocumentLayout {
             this.start = start;
             this.end = end;
             this.first = first;
+            this.line = line;
+        }
+    }
+
+    /**
+     * Paints and glyph buffers of a render, one per drawing thread, with
+     * the token data it draws so tiles can render at the same time
+     */
+    private static class DrawState {
+
+        private TextPaint paint;
+        private TextPaint workPaint = new TextPaint();
+        // Glyphs of a style run for drawPosText
+        private char[] glyphs = new char[64];
+        private float[] glyphPositions = new float[128];
+        private int[] tokens;
+        private float[] advances;
+        private StyleRuns styleRuns;
+
+        /**
+         * Draws the tokens of one line with a single drawPosText per style run,
+         * placing each glyph with the advances from measuring. Runs that need
+         * more than that, e.g. replacements or shaping, go through Styled.
+         */
+        @SuppressWarnings("deprecation")
+        public void drawLine(Canvas canvas, Spannable textCpy, int first, int last, int scrollTop) {
+            StyleRuns runs = styleRuns;
+            int lineStart = Integer.MAX_VALUE;
+            int lineEnd = 0;
+            int y = tokens[first + TOKEN_Y] - scrollTop;
+
+            // Reversed paragraphs keep their tokens in visual order,
+            // and reversed tokens are drawn on their own
+            for (int index = first; index < last; index += TOKEN_LENGTH) {
+                if ((tokens[index + TOKEN_FLAGS] & FLAG_REVERSE) != 0) {
+                    drawReversedToken(canvas, textCpy, index, y);
+                    continue;
+                }
+
+                lineStart = Math.min(lineStart, tokens[index + TOKEN_START]);
+                lineEnd = Math.max(lineEnd, tokens[index + TOKEN_END]);
+            }
+
+            for (int run = runs.getRun(lineStart); run < runs.count && runs.starts[run] < lineEnd; run++) {
+                int runStart = runs.starts[run];
+                int runEnd = runs.starts[run + 1];
+
+                boolean simple = loadRunPaint(runs.styles[run]);
+                int count = 0;
+
+                for (int index = first; index < last; index += TOKEN_LENGTH) {
+                    int start = Math.max(tokens[index + TOKEN_START], runStart);
+                    int end = Math.min(tokens[index + TOKEN_END], runEnd);
+
+                    if (start >= end || (tokens[index + TOKEN_FLAGS] & FLAG_REVERSE) != 0) {
+                        continue;
+                    }
+
+                    if (count + end - start > glyphs.length) {
+                        glyphs = Arrays.copyOf(glyphs, Math.max(glyphs.length * 2, count + end - start));
+                        glyphPositions = Arrays.copyOf(glyphPositions, glyphs.length * 2);
+                    }
+
+                    float x = getTokenX(index, start);
+                    TextUtils.getChars(textCpy, start, end, glyphs, count);
+
+                    for (int i = start; i < end; i++, count++) {
+                        simple &= !needsShaping(glyphs[count]);
+                        glyphPositions[count * 2] = x;
+                        glyphPositions[count * 2 + 1] = y + workPaint.baselineShift;
+                        x += advances[i];
+                    }
+                }
+
+                if (simple) {
+                    canvas.drawPosText(glyphs, 0, count, glyphPositions, workPaint);
+                } else {
+                    for (int index = first; index < last; index += TOKEN_LENGTH) {
+                        int start = Math.max(tokens[index + TOKEN_START], runStart);
+                        int end = Math.min(tokens[index + TOKEN_END], runEnd);
+
+                        if (start < end && (tokens[index + TOKEN_FLAGS] & FLAG_REVERSE) == 0) {
+                            Styled.drawUniformRun(canvas, textCpy, start, end, Layout.DIR_LEFT_TO_RIGHT,
+                                    false, getTokenX(index, start), 0, y, 0, null, paint, workPaint,
+                                    false, runs.styles[run]);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Draws a token of a reversed DirectionSpan run by run from its right edge
+         */
+        private void drawReversedToken(Canvas canvas, Spannable textCpy, int index, int y) {
+            StyleRuns runs = styleRuns;
+            int tokenStart = tokens[index + TOKEN_START];
+            int tokenEnd = tokens[index + TOKEN_END];
+            float x = getTokenX(index, tokenEnd);
+
+            for (int run = runs.getRun(tokenStart); run < runs.count && runs.starts[run] < tokenEnd; run++) {
+                int start = Math.max(tokenStart, runs.starts[run]);
+                int end = Math.min(tokenEnd, runs.starts[run + 1]);
+
+                x += Styled.drawUniformRun(canvas, textCpy, start, end, Layout.DIR_RIGHT_TO_LEFT, true,
+                        x, 0, y, 0, null, paint, workPaint, true, runs.styles[run]);
+            }
+        }
+
+        /**
+         * Loads the paint of a run without style changes into workPaint. Returns
+         * false if Styled has to draw the run, for replacements and decorations.
+         */
+        private boolean loadRunPaint(CharacterStyle[] spans) {
+            boolean simple = true;
+
+            paint.bgColor = 0;
+            paint.baselineShift = 0;
+            workPaint.set(paint);
+
+            for (CharacterStyle span : spans) {
+                if (span instanceof ReplacementSpan) {
+                    simple = false;
+                } else {
+                    span.updateDrawState(workPaint);
+                }
+            }
+
+            return simple && workPaint.bgColor == 0 && !workPaint.isUnderlineText() &&
+                    !workPaint.isStrikeThruText();
+        }
+
+        /**
+         * Where the char at the offset in the token is drawn
+         */
+        private float getTokenX(int index, int offset) {
+            float x = tokens[index + TOKEN_X];
+
+            for (int i = tokens[index + TOKEN_START]; i < offset; i++) {
+                x += advances[i];
+            }
+
+            return x;
+        }
+    }
+
+    /**
+     * Measured tokens with the text and style runs they were measured from,
+     * drawn and cached as a whole
+     */
+
+    private static class SpannableLayoutResult extends LayoutResult {
+
+        public final int[] tokens;
+        public final int[] lines;
+        public final float[] lineTops;
+        public final float[] advances;
+        public final StyleRuns styleRuns;
+        public final Spannable layoutText;
+        public final LeadingMarginSpanDrawParameters[] leadMarginSpanDrawEvents;
+        // Text to diff the next incremental measure against, if allowed
+        public final Spannable measuredText;
+
+        public SpannableLayoutResult(int lineCount, int measuredHeight, int[] tokens, int[] lines,
+                                     float[] lineTops, float[] advances, StyleRuns styleRuns,
+                                     Spannable layoutText,
+                                     LeadingMarginSpanDrawParameters[] leadMarginSpanDrawEvents,
+                                     Spannable measuredText) {
+            super(lineCount, measuredHeight);
+            this.tokens = tokens;
+            this.lines = lines;
+            this.lineTops = lineTops;
+            this.advances = advances;
+            this.styleRuns = styleRuns;
+            this.layoutText = layoutText;
+            this.leadMarginSpanDrawEvents = leadMarginSpanDrawEvents;
+            this.measuredText = measuredText;
+        }
+
+        /**
+         * Returns the first line starting at or after the offset
+         */
+        public int getLineStartingFrom(int offset) {
+            int low = 0;
+            int high = lineCount;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lines[mid * LINE_LENGTH + LINE_START] < offset) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        public int getFirstTokenForLine(int line) {
+            return line < lineCount ? lines[line * LINE_LENGTH + LINE_TOKEN] : tokens.length;
+        }
+
+        public int getLineForVertical(float y) {
+            int low = 0;
+            int high = lineCount;
+
+            // First line with its bottom below y
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lineTops[mid + 1] <= y) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return Math.max(0, Math.min(low, lineCount - 1));
+        }
+    }
+
+    /**
+     * CharacterStyle runs of the text and their spans, resolved once
+     * when measuring so drawing needs no span queries
+     */
+
+    private class StyleRuns {
+
+        public int[] starts;
+        public CharacterStyle[][] styles;
+        public int count;
+
+        public StyleRuns(Spanned text) {
+            this(text, 0, text.length());
+        }
+
+        /**
+         * Runs of the range of the text
+         */
+        private StyleRuns(Spanned text, int start, int end) {
+            CharacterStyle[] spans = text.getSpans(start, end, CharacterStyle.class);
+            final int[] spanStarts = new int[spans.length];
+            int[] spanEnds = new int[spans.length];
+            Integer[] order = new Integer[spans.length];
+
+            for (int i = 0; i < spans.length; i++) {
+                spanStarts[i] = text.getSpanStart(spans[i]);
+                spanEnds[i] = text.getSpanEnd(spans[i]);
+                order[i] = i;
+            }
+
+            // Stable, so spans starting together keep the getSpans order
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return spanStarts[a] - spanStarts[b];
+                }
+            });
+
+            starts = new int[9];
+            styles = new CharacterStyle[8][];
+
+            // Spans that may cover the current run, in getSpans order
+            ArrayList<Integer> active = new ArrayList<>();
+            ArrayList<CharacterStyle> runSpans = new ArrayList<>();
+            int nextSpan = 0;
+
+            for (int runStart = start, runEnd; runStart < end; runStart = runEnd) {
+                runEnd = text.nextSpanTransition(runStart, end, CharacterStyle.class);
+
+                while (nextSpan < order.length && spanStarts[order[nextSpan]] <= runEnd) {
+                    int span = order[nextSpan++];
+                    int position = Collections.binarySearch(active, span);
+                    active.add(-position - 1, span);
+                }
+
+                runSpans.clear();
+
+                for (Iterator<Integer> iterator = active.iterator(); iterator.hasNext(); ) {
+                    int span = iterator.next();
+                    int spanStart = spanStarts[span];
+                    int spanEnd = spanEnds[span];
+
+                    // Same rules as getSpans, empty spans touch both runs
+                    if (spanStart == spanEnd ? spanStart >= runStart : spanStart < runEnd && spanEnd > runStart) {
+                        runSpans.add(spans[span]);
+                    }
+
+                    if (spanEnd < runEnd || (spanEnd == runEnd && spanStart != spanEnd)) {
+                        iterator.remove();
+                    }
+                }
+
+                if (count == styles.length) {
+                    starts = Arrays.copyOf(starts, count * 2 + 1);
+                    styles = Arrays.copyOf(styles, count * 2);
+                }
+
+                starts[count] = runStart;
+                styles[count] = runSpans.toArray(new CharacterStyle[runSpans.size()]);
+                count++;
+            }
+
+            starts[count] = end;
+        }
+
+        /**
+         * Runs of the text after replacing the range from start to oldEnd of
+         * the old runs. Only the runs of the replaced range, widened to run
+         * boundaries, are built again, the ones after it are moved.
+         */
+        public StyleRuns(StyleRuns old, Spanned text, int start, int oldEnd, int newEnd) {
+            int delta = newEnd - oldEnd;
+            int head = old.getRun(start);
+            int tail = old.getRun(oldEnd);
+            tail = old.starts[tail] >= oldEnd ? tail : tail + 1;
+
+            StyleRuns middle = new StyleRuns(text, old.starts[head], old.starts[tail] + delta);
+
+            count = head + middle.count + old.count - tail;
+            starts = new int[count + 1];
+            styles = new CharacterStyle[count][];
+
+            System.arraycopy(old.starts, 0, starts, 0, head);
+            System.arraycopy(old.styles, 0, styles, 0, head);
+            System.arraycopy(middle.starts, 0, starts, head, middle.count);
+            System.arraycopy(middle.styles, 0, styles, head, middle.count);
+            System.arraycopy(old.styles, tail, styles, head + middle.count, old.count - tail);
+
+            for (int run = tail, index = head + middle.count; run <= old.count; run++, index++) {
+                starts[index] = old.starts[run] + delta;
+            }
+        }
+
+        /**
+         * Returns the run containing the offset
+         */
+        public int getRun(int offset) {
+            int low = 0;
+            int high = count;
+
+            while (low + 1 < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= offset) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+
+    /**
+     * Lines of a range of whole paragraphs, broken from the advance of every
+     * character, measured once per span run. Breaks like StaticLayout: spaces
+     * hang at the end of a line, too long words break between characters and
+     * leading margins narrow the first and the other lines of a paragraph.
+     */
+    private class TextLines {
+
+        private int start;
+        private char[] chars;
+        private float[] advances;
+        private int[] lines;
+        private int lineCount;
+
+        // Font metrics of each span run
+        private int[] runEnds;
+        private int[] runAscents;
+        private int[] runDescents;
+        private int runCount;
+
+        public TextLines(Spannable text, int start, int end, float boundWidth) {
+            this.start = start;
+            chars = new char[end - start];
+            advances = new float[end - start];
+            lines = new int[TEXT_LINE_LENGTH * 16];
+            runEnds = new int[8];
+            runAscents = new int[8];
+            runDescents = new int[8];
+
+            TextUtils.getChars(text, start, end, chars, 0);
+            measureRuns(text, start, end);
+
+            for (int paraStart = start; paraStart < end; ) {
+                int paraEnd = paraStart;
+
+                while (paraEnd < end && chars[paraEnd - start] != '\n') {
+                    paraEnd++;
+                }
+
+                paraEnd = paraEnd < end ? paraEnd + 1 : end;
+
+                // Leading margins, for the first lines and the rest
+                float firstWidth = boundWidth;
+                float restWidth = boundWidth;
+                int firstLines = 1;
+
+                for (LeadingMarginSpan span : text.getSpans(paraStart, paraEnd, LeadingMarginSpan.class)) {
+                    firstWidth -= span.getLeadingMargin(true);
+                    restWidth -= span.getLeadingMargin(false);
+
+                    if (span instanceof LeadingMarginSpan.LeadingMarginSpan2) {
+                        firstLines = Math.max(firstLines,
+                                ((LeadingMarginSpan.LeadingMarginSpan2) span).getLeadingMarginLineCount());
+                    }
+                }
+
+                // Breakers take a single width
+                if (params.lineBreaker != null && firstWidth == restWidth) {
+                    breakParagraph(params.lineBreaker, paraStart, paraEnd, restWidth);
+                } else {
+                    breakParagraph(paraStart, paraEnd, firstWidth, restWidth, firstLines);
+                }
+
+                paraStart = paraEnd;
+            }
+
+            // Empty line after a trailing line break
+            if (end == start || chars[end - start - 1] == '\n') {
+                Paint.FontMetricsInt fmi = measurePaint.getFontMetricsInt();
+                addLine(end, end, fmi.ascent, fmi.descent);
+            }
+        }
+
+        /**
+         * Advances of every character, one span run at a time
+         */
+        private void measureRuns(Spannable text, int start, int end) {
+            Paint.FontMetricsInt fmi = new Paint.FontMetricsInt();
+            float[] widths = new float[0];
+
+            for (int i = start, next; i < end; i = next) {
+                next = text.nextSpanTransition(i, end, MetricAffectingSpan.class);
+
+                if (widths.length < next - i) {
+                    widths = new float[next - i];
+                }
+
+                measurePaint.getFontMetricsInt(fmi);
+                Styled.getTextWidths(measurePaint, workPaint, text, i, next, widths, fmi);
+                System.arraycopy(widths, 0, advances, i - start, next - i);
+
+                if (runCount == runEnds.length) {
+                    runEnds = Arrays.copyOf(runEnds, runCount * 2);
+                    runAscents = Arrays.copyOf(runAscents, runCount * 2);
+                    runDescents = Arrays.copyOf(runDescents, runCount * 2);
+                }
+
+                runEnds[runCount] = next;
+                runAscents[runCount] = fmi.ascent;
+                runDescents[runCount] = fmi.descent;
+                runCount++;
+            }
+        }
+
+        /**
+         * First-fit breaking of one paragraph
+         */
+        private void breakParagraph(int paraStart, int paraEnd, float firstWidth, float restWidth,
+                                    int firstLines) {
+
+            int textEnd = paraEnd > paraStart && chars[paraEnd - 1 - start] == '\n' ? paraEnd - 1 : paraEnd;
+            int lineStart = paraStart;
+            int paraLine = 0;
+            int breakAt = -1;
+            float width = 0;
+            float breakWidth = 0;
+
+            for (int i = paraStart; i < textEnd; i++) {
+                float advance = advances[i - start];
+
+                // Spaces hang past the end of the line
+                if (chars[i - start] == ' ') {
+                    width += advance;
+                    breakAt = i + 1;
+                    breakWidth = width;
+                    continue;
+                }
+
+                float lineWidth = paraLine < firstLines ? firstWidth : restWidth;
+
+                if (width + advance > lineWidth && i > lineStart) {
+
+                    // After the last space, or in the middle of a too long word
+                    int lineEnd = breakAt > lineStart ? breakAt : i;
+                    addLine(lineStart, lineEnd);
+
+                    width = lineEnd == i ? 0 : width - breakWidth;
+                    lineStart = lineEnd;
+                    paraLine++;
+                }
+
+                width += advance;
+            }
+
+            addLine(lineStart, paraEnd);
+        }
+
+        /**
+         * Breaking of one paragraph with a line breaker, a box per word
+         */
+        private void breakParagraph(ILineBreaker lineBreaker, int paraStart, int paraEnd, float lineWidth) {
+
+            int textEnd = paraEnd > paraStart && chars[paraEnd - 1 - start] == '\n' ? paraEnd - 1 : paraEnd;
+            float spaceWidth = AdvanceCache.measureText(measurePaint, " ");
+
+            int[] boxStarts = new int[16];
+            float[] widths = new float[16];
+            int[] breaks = new int[16];
+            int count = 0;
+
+            int i = paraStart;
+
+            // Leading spaces stay with the first word
+            while (i < textEnd && chars[i - start] == ' ') {
+                i++;
+            }
+
+            for (int boxStart = paraStart; boxStart < textEnd; boxStart = i) {
+
+                while (i < textEnd && chars[i - start] != ' ') {
+                    i++;
+                }
+
+                float width = measure(boxStart, i);
+
+                // The first space is the gap, the others widen the word
+                if (i < textEnd) {
+                    i++;
+                }
+
+                while (i < textEnd && chars[i - start] == ' ') {
+                    width += advances[i++ - start];
+                }
+
+                if (count == boxStarts.length) {
+                    boxStarts = Arrays.copyOf(boxStarts, count * 2);
+                    widths = Arrays.copyOf(widths, count * 2);
+                    breaks = Arrays.copyOf(breaks, count * 2);
+                }
+
+                boxStarts[count] = boxStart;
+                widths[count] = width;
+                breaks[count++] = ILineBreaker.BREAK_SPACE;
+            }
+
+            if (count == 0) {
+                addLine(paraStart, paraEnd);
+                return;
+            }
+
+            breaks[count - 1] = ILineBreaker.BREAK_END;
+
+            int[] lineEnds = new int[count];
+            int lines = lineBreaker.breakLines(widths, breaks, count, spaceWidth, 0, lineWidth, lineEnds);
+
+            for (int line = 0; line < lines; line++) {
+                int first = line == 0 ? 0 : lineEnds[line - 1];
+                int lineStart = boxStarts[first];
+                int lineEnd = line + 1 < lines ? boxStarts[lineEnds[line]] : paraEnd;
+
+                // A word too long for a line on its own breaks between characters
+                if (lineEnds[line] - first == 1 && widths[first] > lineWidth) {
+                    breakParagraph(lineStart, lineEnd, lineWidth, lineWidth, 1);
+                } else {
+                    addLine(lineStart, lineEnd);
+                }
+            }
+        }
+
+        private void addLine(int lineStart, int lineEnd) {
+            int ascent = 0;
+            int descent = 0;
+
+            // Tallest run on the line
+            for (int run = findRun(lineStart); run < runCount; run++) {
+                ascent = Math.min(ascent, runAscents[run]);
+                descent = Math.max(descent, runDescents[run]);
+
+                if (runEnds[run] >= lineEnd) {
+                    break;
+                }
+            }
+
+            addLine(lineStart, lineEnd, ascent, descent);
+        }
+
+        private void addLine(int lineStart, int lineEnd, int ascent, int descent) {
+            if ((lineCount + 1) * TEXT_LINE_LENGTH > lines.length) {
+                lines = Arrays.copyOf(lines, lines.length * 2);
+            }
+
+            int offset = lineCount++ * TEXT_LINE_LENGTH;
+            lines[offset + TEXT_LINE_START] = lineStart;
+            lines[offset + TEXT_LINE_END] = lineEnd;
+            lines[offset + TEXT_LINE_ASCENT] = ascent;
+            lines[offset + TEXT_LINE_DESCENT] = descent;
+        }
+
+        /**
+         * Run containing the offset, by binary search
+         */
+        private int findRun(int offset) {
+            int low = 0;
+            int high = runCount - 1;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (runEnds[mid] <= offset) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        public int getLineCount() {
+            return lineCount;
+        }
+
+        public int getLineStart(int line) {
+            return lines[line * TEXT_LINE_LENGTH + TEXT_LINE_START];
+        }
+
+        public int getLineEnd(int line) {
+            return lines[line * TEXT_LINE_LENGTH + TEXT_LINE_END];
+        }
+
+        /**
+         * Negative, like StaticLayout
+         */
+        public int getLineAscent(int line) {
+            return lines[line * TEXT_LINE_LENGTH + TEXT_LINE_ASCENT];
+        }
+
+        public int getLineDescent(int line) {
+            return lines[line * TEXT_LINE_LENGTH + TEXT_LINE_DESCENT];
+        }
+
+        public float measure(int from, int to) {
+            float width = 0;
+
+            for (int i = from; i < to; i++) {
+                width += advances[i - start];
+            }
+
+            return width;
+        }
+
+        public void getAdvances(int from, int to, float[] widths) {
+            System.arraycopy(advances, from - start, widths, 0, to - from);
+        }
+
+        /**
+         * Copies the advances into an array indexed by text offset
+         */
+        public void copyAdvances(float[] textAdvances) {
+            System.arraycopy(advances, 0, textAdvances, start, advances.length);
+        }
+    }
+
+    /**
+     * Where measureLines picks up from
+     */
+
+    private class MeasureState {
+
+        public int[] tokens;
+        public int[] lines;
+        public float[] lineTops;
+        public float[] advances;
+        public LinkedList<LeadingMarginSpanDrawParameters> leadMarginSpanDrawEvents;
+        public HashMap<LeadingMarginSpan, Integer> leadSpans;
+        public int index;
+        public int lineNumber;
+        public int enableLineBreak;
+        public float y;
+
+        public MeasureState(int tokenCapacity, int lineCapacity) {
+            tokens = new int[tokenCapacity];
+            lines = new int[lineCapacity * LINE_LENGTH];
+            lineTops = new float[lineCapacity + 1];
+            leadMarginSpanDrawEvents = new LinkedList<>();
+            leadSpans = new HashMap<>();
         }
     }
 }
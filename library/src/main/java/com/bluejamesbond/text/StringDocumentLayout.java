@@ -34,229 +34,705 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.text.TextPaint;
+import android.text.TextUtils;
 
+import com.bluejamesbond.text.hyphen.IOffsetHyphenator;
+import com.bluejamesbond.text.linebreak.ILineBreaker;
+
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 @SuppressWarnings("unused")
 public abstract class StringDocumentLayout extends IDocumentLayout {
 
-    // Parsing objects
-    private Token[] tokens;
-    private ConcurrentModifiableLinkedList<String> chunks;
+    private static final int TOKEN_START = 0;
+    private static final int TOKEN_END = 1;
+    private static final int TOKEN_LINE = 2;
+    private static final int TOKEN_FLAGS = 3;
+    private static final int TOKEN_LENGTH = 4;
+    private static final int POSITION_X = 0;
+    private static final int POSITION_Y = 1;
+    private static final int POSITION_WIDTH = 2;
+    private static final int POSITION_LENGTH = 3;
+
+    // Token flags
+    private static final int FLAG_LINE_BREAK = 1;
+    private static final int FLAG_HYPHEN = 2;
+
+    // Paragraphs measured per task in parallel mode
+    private static final int PARAGRAPHS_PER_TASK = 64;
+    private static ExecutorService measureExecutor;
+
+    // Chars read from a text source at a time
+    private static final int STREAM_CHUNK_SIZE = 8192;
+
+    private static final StringLayoutResult EMPTY_LAYOUT = new StringLayoutResult(0, 0, new char[0],
+            new int[0], new float[0], new int[1], 0, 0);
+
+    // Text and line metrics of the running measure, drawn from the layout
+    private char[] chars;
+    private int[] paragraphs;
+    private int streamLength;
+    // Text generation the chars were taken from
+    private int charsGeneration = -1;
+    private float lineAscent;
+    private float lineDescent;
 
     public StringDocumentLayout(Context context, TextPaint paint) {
         super(context, paint);
-        tokens = new Token[0];
-        chunks = new ConcurrentModifiableLinkedList<>();
+        chars = new char[0];
+        paragraphs = new int[0];
+    }
+
+    /**
+     * First token of every line, followed by the token count
+     */
+    private static int[] indexLines(int[] tokens, int count, int lineCount) {
+        int[] lineTokens = new int[lineCount + 1];
+        int line = 0;
+
+        for (int i = 0; i < count; i++) {
+            for (; line <= tokens[i * TOKEN_LENGTH + TOKEN_LINE] && line < lineCount; line++) {
+                lineTokens[line] = i;
+            }
+        }
+
+        for (; line <= lineCount; line++) {
+            lineTokens[line] = count;
+        }
+
+        return lineTokens;
     }
 
     @Override
     public boolean onMeasure(IProgress<Float> progress, ICancel<Boolean> cancelled) {
 
         boolean done = true;
-        String textCpy = this.text.toString();
+        Reader source = getTextSource();
+
+        int textGeneration = getTextGeneration();
 
-        if (textChange) {
-            chunks.clear();
+        if (textGeneration != charsGeneration && source != null) {
+            // Filled in by measureStream() as it is read
+            chars = new char[STREAM_CHUNK_SIZE];
+            paragraphs = new int[0];
+            streamLength = 0;
+            charsGeneration = textGeneration;
+        } else if (textGeneration != charsGeneration) {
+            int length = text.length();
+            int[] newParagraphs = new int[16];
+            int count = 0;
 
-            int start = 0;
+            chars = new char[length];
+            TextUtils.getChars(text, 0, length, chars, 0);
 
-            while (start > -1) {
-                int next = textCpy.indexOf('\n', start);
+            for (int start = 0; start > -1; count += 2) {
+                int next = start;
 
-                if (next < 0) {
-                    chunks.add(textCpy.substring(start, textCpy.length()));
-                } else {
-                    chunks.add(textCpy.substring(start, next++));
+                while (next < length && chars[next] != '\n') {
+                    next++;
                 }
 
-                start = next;
+                if (count + 2 > newParagraphs.length) {
+                    newParagraphs = Arrays.copyOf(newParagraphs, newParagraphs.length * 2);
+                }
+
+                newParagraphs[count] = start;
+                newParagraphs[count + 1] = next;
+                start = next < length ? next + 1 : -1;
             }
 
-            textChange = false;
+            paragraphs = Arrays.copyOf(newParagraphs, count);
+            charsGeneration = textGeneration;
         }
 
-        // Empty out any existing tokens
-        List<Token> tokensList = new ConcurrentModifiableLinkedList<>();
-
-        Paint paint = getPaint();
+        final Paint paint = measurePaint;
         paint.setTextAlign(Paint.Align.LEFT);
+        lineAscent = -paint.ascent() * params.lineHeightMultiplier;
+        lineDescent = paint.descent() * params.lineHeightMultiplier;
 
         // Get basic settings widget properties
-        int lineNumber = 0;
-        float width = params.parentWidth - params.insetPaddingRight - params.insetPaddingLeft;
-        float lineHeight = getTokenAscent(0) + getTokenDescent(0);
-        float x, prog = 0, chunksLen = chunks.size();
-        float y = params.insetPaddingTop + getTokenAscent(0);
-        float spaceOffset = paint.measureText(" ") * params.wordSpacingMultiplier;
+        final float width = params.parentWidth - params.insetPaddingRight - params.insetPaddingLeft;
+        final float lineHeight = lineAscent + lineDescent;
+        final float spaceOffset = paint.measureText(" ") * params.wordSpacingMultiplier;
+        final int paragraphCount = paragraphs.length / 2;
+        float prog = 0;
+        float y = params.insetPaddingTop + lineAscent;
+
+        // Collects all the tokens
+        MeasureResult result = new MeasureResult();
+        result.y = y;
+
+        if (source != null) {
+            done = measureStream(source, result, paint, width, spaceOffset, lineHeight, cancelled);
+        } else if (params.parallelMeasure && paragraphCount > PARAGRAPHS_PER_TASK) {
+
+            // Paragraphs only depend on each other for y, so measure
+            // them on the pool and add them up in order
+            final ICancel<Boolean> cancelledCpy = cancelled;
+            List<Future<MeasureResult>> futures = new ArrayList<>();
+
+            for (int start = 0; start < paragraphCount; start += PARAGRAPHS_PER_TASK) {
+                final int from = start;
+                final int to = Math.min(paragraphCount, start + PARAGRAPHS_PER_TASK);
+
+                futures.add(getMeasureExecutor().submit(new Callable<MeasureResult>() {
+                    @Override
+                    public MeasureResult call() throws Exception {
+                        Paint workerPaint = new TextPaint(paint);
+                        MeasureResult batch = new MeasureResult();
+
+                        for (int i = from; i < to && batch.done && batch.lineCount < params.maxLines; i++) {
+                            if (cancelledCpy.isCancelled()) {
+                                batch.done = false;
+                                break;
+                            }
+
+                            measureParagraph(batch, paragraphs[i * 2], paragraphs[i * 2 + 1], workerPaint,
+                                    width, spaceOffset, lineHeight, params.maxLines, cancelledCpy);
+                        }
+
+                        return batch;
+                    }
+                }));
+            }
+
+            try {
+                // Prefix sum of the line heights, in the same
+                // steps as below so both modes match exactly
+                int line = 0;
+                int index = 0;
+                int batchEnd = 0;
+
+                for (Future<MeasureResult> future : futures) {
+
+                    MeasureResult batch;
+
+                    try {
+                        batch = future.get();
+                    } catch (InterruptedException e) {
+                        done = false;
+                        break;
+                    } catch (ExecutionException e) {
+                        throw new RuntimeException(e.getCause());
+                    }
+
+                    result.append(batch, params.maxLines);
+                    progress.onUpdate(Math.min(prog += PARAGRAPHS_PER_TASK, paragraphCount) / paragraphCount);
+                    batchEnd = Math.min(batchEnd + PARAGRAPHS_PER_TASK, paragraphCount);
+
+                    for (; index < result.count; index++) {
+                        for (; line < result.tokens[index * TOKEN_LENGTH + TOKEN_LINE]; line++) {
+                            y += lineHeight;
+                        }
+                        result.positions[index * POSITION_LENGTH + POSITION_Y] = y;
+                    }
+
+                    for (; line < result.lineCount; line++) {
+                        y += lineHeight;
+                    }
+
+                    result.y = y;
+
+                    if (!batch.done) {
+                        done = false;
+                        break;
+                    }
+
+                    if (result.lineCount >= params.maxLines) {
+                        break;
+                    }
+
+                    if (batchEnd < paragraphCount && isPublishDue(result.y)) {
+                        publishLayout(result, paragraphs[batchEnd * 2]);
+                    }
+                }
+            } finally {
+                // Stop any leftovers, also if a batch failed
+                for (Future<MeasureResult> future : futures) {
+                    future.cancel(true);
+                }
+            }
+
+        } else {
+
+            for (int i = 0; i < paragraphCount; i++) {
+
+                if (cancelled.isCancelled()) {
+                    done = false;
+                    break;
+                }
+
+                progress.onUpdate(prog++ / paragraphCount);
+
+                if (result.lineCount >= params.maxLines) {
+                    break;
+                }
+
+                measureParagraph(result, paragraphs[i * 2], paragraphs[i * 2 + 1], paint, width,
+                        spaceOffset, lineHeight, params.maxLines, cancelled);
+
+                if (!result.done) {
+                    done = false;
+                    break;
+                }
+
+                if (i + 1 < paragraphCount && isPublishDue(result.y)) {
+                    publishLayout(result, paragraphs[i * 2 + 2]);
+                }
+            }
+        }
+
+        publishLayout(newLayout(result, (int) (result.y - lineAscent + params.insetPaddingBottom)));
+        return done;
+    }
+
+    /**
+     * Reads the text source a chunk at a time and lays out each paragraph
+     * as soon as its line break was read. Chars read by an earlier measure,
+     * e.g. one cancelled to change the width, are laid out again first.
+     */
+    private boolean measureStream(Reader source, MeasureResult result, Paint paint, float width,
+                                  float spaceOffset, float lineHeight, ICancel<Boolean> cancelled) {
+
+        int[] newParagraphs = new int[16];
+        int count = 0;
+        int start = 0;
+        int next = 0;
 
-        main:
-        for (String paragraph : chunks) {
+        while (true) {
 
             if (cancelled.isCancelled()) {
-                done = false;
-                break;
+                return false;
+            }
+
+            while (next < streamLength && chars[next] != '\n') {
+                next++;
             }
 
-            progress.onUpdate(prog++ / chunksLen);
+            boolean end = false;
+
+            // Paragraph isn't complete yet, read on
+            if (next == streamLength) {
+                if (streamLength + STREAM_CHUNK_SIZE > chars.length) {
+                    chars = Arrays.copyOf(chars, Math.max(chars.length * 2, streamLength + STREAM_CHUNK_SIZE));
+                }
+
+                int read = readTextSource(source, chars, streamLength, STREAM_CHUNK_SIZE);
 
-            if (lineNumber >= params.maxLines) {
+                if (read >= 0) {
+                    streamLength += read;
+                    continue;
+                }
+
+                end = true;
+            }
+
+            if (count + 2 > newParagraphs.length) {
+                newParagraphs = Arrays.copyOf(newParagraphs, newParagraphs.length * 2);
+            }
+
+            newParagraphs[count++] = start;
+            newParagraphs[count++] = next;
+
+            // Past maxLines the rest is only read
+            if (result.lineCount < params.maxLines) {
+                measureParagraph(result, start, next, paint, width, spaceOffset, lineHeight,
+                        params.maxLines, cancelled);
+
+                if (!result.done) {
+                    return false;
+                }
+            }
+
+            if (end) {
                 break;
             }
 
-            // Start at x = 0 for drawing textCpy
+            start = next = next + 1;
+
+            if (isPublishDue(result.y)) {
+                publishLayout(result, start);
+            }
+        }
+
+        chars = Arrays.copyOf(chars, streamLength);
+        paragraphs = Arrays.copyOf(newParagraphs, count);
+
+        return finishTextSource(source, new String(chars));
+    }
+
+    /**
+     * Lays out one paragraph after the lines already in the result
+     */
+    private void measureParagraph(MeasureResult result, int paragraphStart, int paragraphEnd,
+                                  Paint paint, float width, float spaceOffset, float lineHeight,
+                                  int maxLines, ICancel<Boolean> cancelled) {
+
+        char[] chars = this.chars;
+
+        // Start at x = 0 for drawing textCpy
+        float x = params.insetPaddingLeft;
+
+        int trimStart = paragraphStart;
+        int trimEnd = paragraphEnd;
+
+        while (trimStart < trimEnd && chars[trimStart] <= ' ') {
+            trimStart++;
+        }
+
+        while (trimEnd > trimStart && chars[trimEnd - 1] <= ' ') {
+            trimEnd--;
+        }
+
+        // If the line contains only spaces or line breaks
+        if (trimStart == trimEnd) {
+            result.push(trimStart, trimStart, result.lineCount++, FLAG_LINE_BREAK, x, result.y, 0);
+            result.y += lineHeight;
+            return;
+        }
+
+        float wrappedWidth = paint.measureText(chars, trimStart, trimEnd - trimStart);
+
+        // Line fits, then don't wrap
+        if (wrappedWidth < width) {
+            // activeCanvas.drawText(paragraph, x, y, paint);
+            result.push(trimStart, trimEnd, result.lineCount++, 0, x, result.y, wrappedWidth);
+            result.y += lineHeight;
+            return;
+        }
+
+        if (params.lineBreaker != null) {
+            breakParagraph(result, paragraphStart, paragraphEnd, paint, width, spaceOffset, lineHeight,
+                    maxLines, cancelled);
+            return;
+        }
+
+        int[] units = tokenize(chars, paragraphStart, paragraphEnd);
+        int unitCount = units.length / 2;
+        float[] widths = new float[unitCount];
+
+        // First unit of the line, and where it starts if
+        // it is what was left after hyphenating
+        int unit = 0;
+        int unitStart = units[0];
+
+        while (true) {
+
             x = params.insetPaddingLeft;
 
-            String trimParagraph = paragraph.trim();
+            // Line doesn't fit, then apply wrapping
+            LineAnalysis format = fit(result, units, unit, unitStart, widths, spaceOffset, width, paint);
+            int tokenCount = format.end - format.start + (format.hyphenEnd > 0 ? 1 : 0);
+            boolean leftOverTokens = format.hyphenEnd > 0 || format.end < unitCount;
 
-            // If the line contains only spaces or line breaks
-            if (trimParagraph.length() == 0) {
-                tokensList.add(new LineBreak(lineNumber++, y));
-                y += lineHeight;
-                continue;
+            if (tokenCount == 0 && leftOverTokens) {
+                new PlainDocumentException("Cannot fit word(s) into one line. Font size too large?")
+                        .printStackTrace();
+                result.done = false;
+                break;
             }
 
-            float wrappedWidth = paint.measureText(trimParagraph);
+            // Draw each word here
+            float offset = 0;
 
-            // Line fits, then don't wrap
-            if (wrappedWidth < width) {
-                // activeCanvas.drawText(paragraph, x, y, paint);
-                tokensList.add(new SingleLine(lineNumber++, x, y, trimParagraph));
-                y += lineHeight;
-                continue;
+            switch (params.textAlignment) {
+                case CENTER: {
+                    x += format.remainWidth / 2;
+                    break;
+                }
+                case RIGHT: {
+                    x += format.remainWidth;
+                    break;
+                }
+                case JUSTIFIED: {
+                    offset = tokenCount > 2 && leftOverTokens ?
+                            format.remainWidth / (tokenCount - 1) : 0;
+                    break;
+                }
+                default: {
+                    // LEFT
+                }
             }
 
-            // Allow leading spaces
-            int start = 0;
-            int overallCounter = 0;
+            for (int i = format.start; i < format.end; i++) {
+                result.push(i == unit ? unitStart : units[i * 2], units[i * 2 + 1], result.lineCount, 0,
+                        x, result.y, widths[i]);
+                x += offset + widths[i] + spaceOffset;
+            }
 
-            ConcurrentModifiableLinkedList<Unit> units = tokenize(paragraph);
-            ListIterator<Unit> unitIterator = units.listIterator();
-            ListIterator<Unit> justifyIterator = units.listIterator();
+            if (format.hyphenEnd > 0) {
+                result.push(format.end == unit ? unitStart : units[format.end * 2], format.hyphenEnd,
+                        result.lineCount, FLAG_HYPHEN, x, result.y, format.hyphenStartWidth);
+            }
 
-            while (true) {
+            // Increment to next line
+            result.y += lineHeight;
 
-                x = params.insetPaddingLeft;
+            // Next line
+            result.lineCount++;
 
-                // Line doesn't fit, then apply wrapping
-                LineAnalysis format = fit(justifyIterator, start, spaceOffset, width);
-                int tokenCount = format.end - format.start;
-                boolean leftOverTokens = justifyIterator.hasNext();
+            // Check cancelled
+            if (cancelled.isCancelled()) {
+                result.done = false;
+                break;
+            }
 
-                if (tokenCount == 0 && leftOverTokens) {
-                    new PlainDocumentException("Cannot fit word(s) into one line. Font size too large?")
-                            .printStackTrace();
-                    done = false;
-                    break main;
-                }
+            // If there are more tokens leftover,
+            // continue
+            if (leftOverTokens && result.lineCount < maxLines) {
 
-                // Draw each word here
-                float offset = 0;
+                // Next start index for tokens
+                unitStart = format.hyphenEnd > 0 ? format.hyphenEnd :
+                        format.end == unit ? unitStart : units[format.end * 2];
+                unit = format.end;
 
-                switch (params.textAlignment) {
-                    case CENTER: {
-                        x += format.remainWidth / 2;
-                        break;
-                    }
-                    case RIGHT: {
-                        x += format.remainWidth;
-                        break;
-                    }
-                    case JUSTIFIED: {
-                        offset = tokenCount > 2 && leftOverTokens ?
-                                format.remainWidth / (tokenCount - 1) : 0;
-                        break;
-                    }
-                    default: {
-                        // LEFT
-                    }
-                }
+                continue;
+            }
 
-                for (int i = format.start; i < format.end; i++) {
-                    Unit unit = unitIterator.next();
+            // If all fit, then continue to next
+            // paragraph
+            break;
+        }
+    }
 
-                    unit.x = x;
-                    unit.y = y;
-                    unit.lineNumber = lineNumber;
-                    x += offset + paint.measureText(unit.unit) + spaceOffset;
+    /**
+     * Lays out a paragraph with the line breaker of the layout params
+     */
+    private void breakParagraph(MeasureResult result, int paragraphStart, int paragraphEnd,
+                                Paint paint, float width, float spaceOffset, float lineHeight,
+                                int maxLines, ICancel<Boolean> cancelled) {
+
+        char[] chars = this.chars;
+        int[] units = tokenize(chars, paragraphStart, paragraphEnd);
+        int unitCount = units.length / 2;
+
+        // Boxes are the words, or their pieces when hyphenated
+        int[] boxes = new int[units.length];
+        int[] breaks = new int[unitCount];
+        float[] widths = new float[unitCount];
+        int count = 0;
+
+        for (int i = 0; i < unitCount; i++) {
+            int start = units[i * 2];
+            int end = units[i * 2 + 1];
+            boolean blank = getTrimmedLength(chars, start, end) == 0;
+            int pieces = params.hyphenated && !blank ?
+                    result.hyphenate(params.offsetHyphenator, chars, start, end) + 1 : 1;
+            int[] hyphenBreaks = result.hyphenBreaks;
+
+            if (count + pieces > breaks.length) {
+                int capacity = Math.max(breaks.length * 2, count + pieces);
+                boxes = Arrays.copyOf(boxes, capacity * 2);
+                breaks = Arrays.copyOf(breaks, capacity);
+                widths = Arrays.copyOf(widths, capacity);
+            }
 
-                    // Add to all tokens
-                    tokensList.add(unit);
-                }
+            for (int piece = 0; piece < pieces; piece++) {
+                boolean lastPiece = piece == pieces - 1;
+                int pieceEnd = lastPiece ? end : hyphenBreaks[piece];
+
+                boxes[count * 2] = start;
+                boxes[count * 2 + 1] = pieceEnd;
+                // Runs of spaces after the indent always fit, like in fit()
+                widths[count] = blank && i > 0 ? 0 :
+                        AdvanceCache.measureText(paint, chars, start, pieceEnd - start);
+                breaks[count++] = lastPiece ? ILineBreaker.BREAK_SPACE : ILineBreaker.BREAK_HYPHEN;
+                start = pieceEnd;
+            }
+        }
+
+        breaks[count - 1] = ILineBreaker.BREAK_END;
+
+        float hyphenWidth = paint.measureText(params.hyphen);
+        int[] lineEnds = new int[count];
+        int lines = params.lineBreaker.breakLines(widths, breaks, count, spaceOffset, hyphenWidth,
+                width, lineEnds);
+
+        for (int line = 0, box = 0; line < lines && result.lineCount < maxLines; line++) {
 
-                // Increment to next line
-                y += lineHeight;
+            int lineEnd = lineEnds[line];
+            boolean hyphen = breaks[lineEnd - 1] == ILineBreaker.BREAK_HYPHEN;
+            boolean leftOverTokens = line + 1 < lines;
+            int tokenCount = 0;
+            float remainWidth = width + spaceOffset - (hyphen ? hyphenWidth : 0);
 
-                // Next line
-                lineNumber++;
+            for (int i = box; i < lineEnd; i++) {
+                remainWidth -= widths[i];
 
-                if (lineNumber >= params.maxLines) {
-                    break main;
+                if (breaks[i] != ILineBreaker.BREAK_HYPHEN || i == lineEnd - 1) {
+                    remainWidth -= spaceOffset;
+                    tokenCount++;
                 }
+            }
 
-                // Check cancelled
-                if (cancelled.isCancelled()) {
-                    done = false;
+            float x = params.insetPaddingLeft;
+            float offset = 0;
+
+            switch (params.textAlignment) {
+                case CENTER: {
+                    x += remainWidth / 2;
                     break;
                 }
+                case RIGHT: {
+                    x += remainWidth;
+                    break;
+                }
+                case JUSTIFIED: {
+                    offset = tokenCount > 2 && leftOverTokens ? remainWidth / (tokenCount - 1) : 0;
+                    break;
+                }
+                default: {
+                    // LEFT
+                }
+            }
 
-                // If there are more tokens leftover,
-                // continue
-                if (leftOverTokens) {
+            // Join the pieces of each word back up
+            int wordStart = box;
+            float wordWidth = 0;
 
-                    // Next start index for tokens
-                    start = format.end;
+            for (int i = box; i < lineEnd; i++) {
+                wordWidth += widths[i];
 
+                if (breaks[i] == ILineBreaker.BREAK_HYPHEN && i < lineEnd - 1) {
                     continue;
                 }
 
-                // If all fit, then continue to next
-                // paragraph
+                result.push(boxes[wordStart * 2], boxes[i * 2 + 1], result.lineCount,
+                        hyphen && i == lineEnd - 1 ? FLAG_HYPHEN : 0, x, result.y, wordWidth);
+                x += offset + wordWidth + spaceOffset;
+                wordStart = i + 1;
+                wordWidth = 0;
+            }
+
+            result.y += lineHeight;
+            result.lineCount++;
+            box = lineEnd;
+
+            if (cancelled.isCancelled()) {
+                result.done = false;
                 break;
             }
         }
+    }
 
-        Token[] tokensArr = new Token[tokensList.size()];
-        tokensList.toArray(tokensArr);
-        tokensList.clear();
+    private static ExecutorService getMeasureExecutor() {
+        synchronized (StringDocumentLayout.class) {
+            if (measureExecutor == null) {
+                measureExecutor = Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                            @Override
+                            public Thread newThread(Runnable runnable) {
+                                Thread thread = new Thread(runnable, "StringDocumentLayout");
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+            }
 
-        lineCount = lineNumber;
-        tokens = tokensArr;
-        params.changed = !done;
-        measuredHeight = (int) (y - getTokenAscent(0) + params.insetPaddingBottom);
-        return done;
+            return measureExecutor;
+        }
+    }
+
+    /**
+     * Hands the tokens measured so far to the view
+     */
+    private void publishLayout(MeasureResult result, int measuredLength) {
+        float y = result.y - lineAscent;
+        publishLayout(newLayout(result, estimateHeight(y, measuredLength)), y);
+    }
+
+    /**
+     * Copies the tokens measured so far, along with the chars they index
+     */
+    private StringLayoutResult newLayout(MeasureResult result, int measuredHeight) {
+        return new StringLayoutResult(result.lineCount, measuredHeight, chars,
+                Arrays.copyOf(result.tokens, result.count * TOKEN_LENGTH),
+                Arrays.copyOf(result.positions, result.count * POSITION_LENGTH),
+                indexLines(result.tokens, result.count, result.lineCount), lineAscent, lineDescent);
     }
 
     @Override
-    public void onDraw(Canvas canvas, int startTop, int startBottom) {
-
-        int tokenStart = getTokenForVertical(startTop, TokenPosition.START_OF_LINE);
-        int tokenEnd = getTokenForVertical(startBottom, TokenPosition.END_OF_LINE);
-
-        for (int i = Math.max(0, tokenStart - 25); i < tokenEnd + 25 && i < tokens.length; i++) {
-            Token token = tokens[i];
-            token.draw(canvas, -startTop, paint, params);
-            if (params.debugging) {
-                if (token instanceof LineBreak) {
-                    int lastColor = paint.getColor();
-                    boolean lastFakeBold = paint.isFakeBoldText();
-                    Paint.Style lastStyle = paint.getStyle();
-                    Paint.Align lastAlign = paint.getTextAlign();
-
-                    paint.setColor(Color.YELLOW);
-                    paint.setStyle(Paint.Style.FILL);
-                    canvas.drawRect(params.insetPaddingLeft, token.y - startTop - getTokenAscent(0), params.parentWidth - params.insetPaddingRight, token.y - startTop + getTokenDescent(0), paint);
-
-                    paint.setColor(Color.BLACK);
-                    paint.setFakeBoldText(true);
-                    paint.setTextAlign(Paint.Align.CENTER);
-                    canvas.drawText("LINEBREAK", params.insetPaddingLeft + (params.parentWidth - params.insetPaddingRight - params.insetPaddingLeft) / 2, token.y - startTop, paint);
-
-                    paint.setStyle(lastStyle);
-                    paint.setColor(lastColor);
-                    paint.setTextAlign(lastAlign);
-                    paint.setFakeBoldText(lastFakeBold);
+    protected StringLayoutResult getLayout() {
+        LayoutResult layout = super.getLayout();
+        return layout instanceof StringLayoutResult ? (StringLayoutResult) layout : EMPTY_LAYOUT;
+    }
+
+    @Override
+    public void onDraw(Canvas canvas, int startTop, int startBottom, TextPaint paint,
+                       ICancel<Boolean> cancelled) {
+
+        StringLayoutResult layout = getLayout();
+
+        if (layout.lineCount == 0) {
+            return;
+        }
+
+        char[] chars = layout.chars;
+        int[] tokens = layout.tokens;
+        float[] positions = layout.positions;
+        int[] lineTokens = layout.lineTokens;
+
+        paint.setTextAlign(Paint.Align.LEFT);
+
+        float offsetX = params.getOffsetX();
+        float offsetY = params.getOffsetY() - startTop;
+        int firstLine = layout.getLineForVertical(startTop - params.getOffsetY(), params.insetPaddingTop);
+        int lastLine = layout.getLineForVertical(startBottom - params.getOffsetY(), params.insetPaddingTop);
+
+        for (int line = firstLine; line <= lastLine; line++) {
+            // Stop between lines once superseded
+            if (cancelled.isCancelled()) {
+                return;
+            }
+
+            for (int i = lineTokens[line]; i < lineTokens[line + 1]; i++) {
+                int start = tokens[i * TOKEN_LENGTH + TOKEN_START];
+                int end = tokens[i * TOKEN_LENGTH + TOKEN_END];
+                int flags = tokens[i * TOKEN_LENGTH + TOKEN_FLAGS];
+                float x = positions[i * POSITION_LENGTH + POSITION_X];
+                float y = positions[i * POSITION_LENGTH + POSITION_Y];
+                float width = positions[i * POSITION_LENGTH + POSITION_WIDTH];
+
+                if ((flags & FLAG_LINE_BREAK) == 0) {
+                    canvas.drawText(chars, start, end - start, x + offsetX, y + offsetY, paint);
+                }
+
+                // After the width the line was broken with
+                if ((flags & FLAG_HYPHEN) != 0) {
+                    canvas.drawText(params.hyphen, x + offsetX + width, y + offsetY, paint);
+                }
+
+                if (params.debugging) {
+                    if ((flags & FLAG_LINE_BREAK) != 0) {
+                        int lastColor = paint.getColor();
+                        boolean lastFakeBold = paint.isFakeBoldText();
+                        Paint.Style lastStyle = paint.getStyle();
+                        Paint.Align lastAlign = paint.getTextAlign();
+
+                        paint.setColor(Color.YELLOW);
+                        paint.setStyle(Paint.Style.FILL);
+                        canvas.drawRect(params.insetPaddingLeft, y - startTop - layout.ascent, params.parentWidth - params.insetPaddingRight, y - startTop + layout.descent, paint);
+
+                        paint.setColor(Color.BLACK);
+                        paint.setFakeBoldText(true);
+                        paint.setTextAlign(Paint.Align.CENTER);
+                        canvas.drawText("LINEBREAK", params.insetPaddingLeft + (params.parentWidth - params.insetPaddingRight - params.insetPaddingLeft) / 2, y - startTop, paint);
+
+                        paint.setStyle(lastStyle);
+                        paint.setColor(lastColor);
+                        paint.setTextAlign(lastAlign);
+                        paint.setFakeBoldText(lastFakeBold);
+                    }
                 }
             }
         }
@@ -264,114 +740,172 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
 
     @Override
     public float getTokenAscent(int tokenIndex) {
-        return -paint.ascent() * params.lineHeightMultiplier;
+        return getLayout().ascent;
     }
 
     @Override
     public float getTokenDescent(int tokenIndex) {
-        return paint.descent() * params.lineHeightMultiplier;
+        return getLayout().descent;
     }
 
     @Override
     public int getTokenForVertical(float y, TokenPosition position) {
-        int high = Math.max(0, tokens.length - 1);
-        int low = 0;
+        StringLayoutResult layout = getLayout();
 
-        while (low + 1 < high) {
-            int mid = (high + low) / 2;
-            float fY = tokens[mid].getY();
+        if (layout.lineCount == 0) {
+            return 0;
+        }
 
-            if (fY > y) {
-                high = mid;
+        int line = layout.getLineForVertical(y, params.insetPaddingTop);
+        int index = position == TokenPosition.END_OF_LINE ?
+                layout.lineTokens[line + 1] - 1 : layout.lineTokens[line];
+
+        return Math.max(0, Math.min(index, layout.tokens.length / TOKEN_LENGTH - 1));
+    }
+
+    @Override
+    public int getLineForVertical(float y) {
+        return getLayout().getLineForVertical(y, params.insetPaddingTop);
+    }
+
+    @Override
+    public float getLineTop(int line) {
+        return getLayout().getLineTop(line, params.insetPaddingTop);
+    }
+
+    @Override
+    public float getLineBaseline(int line) {
+        return getLayout().getLineBaseline(line);
+    }
+
+    @Override
+    public int getLineFirstToken(int line) {
+        return getLayout().lineTokens[line];
+    }
+
+    @Override
+    public int getLineTokenCount(int line) {
+        int[] lineTokens = getLayout().lineTokens;
+        return lineTokens[line + 1] - lineTokens[line];
+    }
+
+    @Override
+    public int getNextToken(int tokenIndex) {
+        return tokenIndex + 1;
+    }
+
+    @Override
+    public int getLineForToken(int tokenIndex) {
+        return getLayout().tokens[tokenIndex * TOKEN_LENGTH + TOKEN_LINE];
+    }
+
+    @Override
+    public int getLineForOffset(int offset) {
+        StringLayoutResult layout = getLayout();
+        int[] tokens = layout.tokens;
+        int lastLine = Math.max(0, layout.lineCount - 1);
+        int low = 0;
+        int high = tokens.length / TOKEN_LENGTH;
+
+        // First token ending after the offset
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid * TOKEN_LENGTH + TOKEN_END] <= offset) {
+                low = mid + 1;
             } else {
-                low = mid;
+                high = mid;
             }
         }
 
-        switch (position) {
-            default:
-            case START_OF_LINE: {
-                for (int s = low; s > 0 && tokens[s].getY() >= y; s--) {
-                    low--;
-                }
-                return low;
-            }
-            case END_OF_LINE: {
-                for (int s = high; s < tokens.length && tokens[s].getY() <= y; s++) {
-                    high++;
-                }
-                return high;
-            }
+        if (low == tokens.length / TOKEN_LENGTH) {
+            return lastLine;
         }
-    }
 
-    @Override
-    public int getLineForToken(int tokenIndex) {
-        throw new RuntimeException("Use SpannableDocumentLayout for now. Method under construction.");
+        return Math.min(tokens[low * TOKEN_LENGTH + TOKEN_LINE], lastLine);
     }
 
     @Override
     public int getTokenStart(int tokenIndex) {
-        throw new RuntimeException("Use SpannableDocumentLayout for now. Method under construction.");
+        return getLayout().tokens[tokenIndex * TOKEN_LENGTH + TOKEN_START];
     }
 
     @Override
     public int getTokenEnd(int tokenIndex) {
-        throw new RuntimeException("Use SpannableDocumentLayout for now. Method under construction.");
+        return getLayout().tokens[tokenIndex * TOKEN_LENGTH + TOKEN_END];
     }
 
     @Override
     public float getTokenTopAt(int tokenIndex) {
-        return tokens[tokenIndex].getY();
+        return getLayout().positions[tokenIndex * POSITION_LENGTH + POSITION_Y];
     }
 
     @Override
     public CharSequence getTokenTextAt(int index) {
-        return tokens[index].toString();
+        StringLayoutResult layout = getLayout();
+        int start = layout.tokens[index * TOKEN_LENGTH + TOKEN_START];
+        int end = layout.tokens[index * TOKEN_LENGTH + TOKEN_END];
+        int flags = layout.tokens[index * TOKEN_LENGTH + TOKEN_FLAGS];
+
+        if ((flags & FLAG_LINE_BREAK) != 0) {
+            return "\n";
+        }
+
+        String unit = new String(layout.chars, start, end - start);
+        return (flags & FLAG_HYPHEN) != 0 ? unit + params.hyphen : unit;
     }
 
     @Override
     public boolean isTokenized() {
-        return tokens != null;
+        return getLayout().tokens != null;
     }
 
-    private ConcurrentModifiableLinkedList<Unit> tokenize(String s) {
+    /**
+     * Returns the [start, end) offsets of each unit of the paragraph
+     */
+    private int[] tokenize(char[] s, int paragraphStart, int paragraphEnd) {
 
-        ConcurrentModifiableLinkedList<Unit> units = new ConcurrentModifiableLinkedList<>();
+        int[] units = new int[16];
+        int count = 0;
 
         // If empty string, just return one group
-        if (s.trim().length() <= 1) {
-            units.add(new Unit(s));
-            return units;
+        if (getTrimmedLength(s, paragraphStart, paragraphEnd) <= 1) {
+            return new int[]{paragraphStart, paragraphEnd};
         }
 
-        int start = 0;
-        boolean charSearch = s.charAt(0) == ' ';
+        int start = paragraphStart;
+        boolean charSearch = s[paragraphStart] == ' ';
+
+        for (int i = paragraphStart + 1; i < paragraphEnd; i++) {
+
+            if (count + 2 > units.length) {
+                units = Arrays.copyOf(units, units.length * 2);
+            }
 
-        for (int i = 1; i < s.length(); i++) {
             // If the end add the word group
-            if (i + 1 == s.length()) {
-                units.add(new Unit(s.substring(start, i + 1)));
+            if (i + 1 == paragraphEnd) {
+                units[count++] = start;
+                units[count++] = i + 1;
                 start = i + 1;
             }
             // Search for the start of non-space
-            else if (charSearch && s.charAt(i) != ' ') {
-                String substring = s.substring(start, i);
-                if (substring.length() != 0) {
-                    units.add(new Unit(s.substring(start, i)));
+            else if (charSearch && s[i] != ' ') {
+                if (i - start != 0) {
+                    units[count++] = start;
+                    units[count++] = i;
                 }
                 start = i;
                 charSearch = false;
             }
             // Search for the end of non-space
-            else if (!charSearch && s.charAt(i) == ' ') {
-                units.add(new Unit(s.substring(start, i)));
+            else if (!charSearch && s[i] == ' ') {
+                units[count++] = start;
+                units[count++] = i;
                 start = i + 1; // Skip the space
                 charSearch = true;
             }
         }
 
-        return units;
+        return Arrays.copyOf(units, count);
     }
 
     /**
@@ -379,13 +913,13 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
      * spaces and control characters were trimmed from the start and end,
      * as by {@link String#trim}.
      */
-    protected int getTrimmedLength(CharSequence s, int start, int end) {
-        while (start < end && s.charAt(start) <= ' ') {
+    protected int getTrimmedLength(char[] s, int start, int end) {
+        while (start < end && s[start] <= ' ') {
             start++;
         }
 
         int endCpy = end;
-        while (endCpy > start && s.charAt(endCpy - 1) <= ' ') {
+        while (endCpy > start && s[endCpy - 1] <= ' ') {
             endCpy--;
         }
 
@@ -395,74 +929,63 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
     /**
      * By contract, parameter "block" must not have any line breaks
      */
-    private LineAnalysis fit(ListIterator<Unit> iterator, int startIndex, float spaceOffset,
-                             float availableWidth) {
+    private LineAnalysis fit(MeasureResult result, int[] units, int startIndex, int startOffset,
+                             float[] widths, float spaceOffset, float availableWidth, Paint paint) {
 
         int i = startIndex;
+        int unitCount = units.length / 2;
 
         // Greedy search to see if the word
         // can actually fit on a line
-        while (iterator.hasNext()) {
+        while (i < unitCount) {
 
             // Get word
-            Unit unit = iterator.next();
-            String word = unit.unit;
-            float wordWidth = paint.measureText(word);
+            int start = i == startIndex ? startOffset : units[i * 2];
+            int end = units[i * 2 + 1];
+            float wordWidth = AdvanceCache.measureText(paint, chars, start, end - start);
             float remainingWidth = availableWidth - wordWidth;
 
+            widths[i] = wordWidth;
+
             // Word does not fit in line
-            if (remainingWidth < 0 && word.trim().length() != 0) {
+            if (remainingWidth < 0 && getTrimmedLength(chars, start, end) != 0) {
 
                 // Handle hyphening in the event
                 // the current word does not fit
                 if (params.hyphenated) {
 
-                    float lastFormattedPartialWidth = 0.0f;
-                    String lastFormattedPartial = null;
-                    String lastConcatPartial = null;
-                    String concatPartial = "";
+                    float hyphenWidth = AdvanceCache.measureText(paint, params.hyphen);
+                    int count = result.hyphenate(params.offsetHyphenator, chars, start, end);
+                    int[] hyphenBreaks = result.hyphenBreaks;
 
-                    List<String> partials = params.hyphenator.hyphenate(word);
+                    if (count > 0) {
+                        float[] prefixWidths = result.measurePrefixes(paint, chars, start, end);
 
-                    for (String partial : partials) {
+                        // Prefix widths only grow, so binary search
+                        // for the last break that fits with the hyphen
+                        int low = 0;
+                        int high = count - 1;
 
-                        concatPartial += partial;
+                        while (low <= high) {
+                            int mid = (low + high) >>> 1;
 
-                        // Create the hyphenated word
-                        // aka. partial
-                        String formattedPartial = concatPartial + params.hyphen;
-                        float formattedPartialWidth = paint
-                                .measureText(formattedPartial);
-
-                        // See if the partial fits
-                        if (availableWidth - formattedPartialWidth > 0) {
-                            lastFormattedPartial = formattedPartial;
-                            lastFormattedPartialWidth = formattedPartialWidth;
-                            lastConcatPartial = concatPartial;
+                            if (availableWidth - (prefixWidths[hyphenBreaks[mid] - start] + hyphenWidth) > 0) {
+                                low = mid + 1;
+                            } else {
+                                high = mid - 1;
+                            }
                         }
-                        // If the partial doesn't fit
-                        else {
 
-                            // Check if the lastPartial
-                            // was even onUpdate
-                            if (lastFormattedPartial != null) {
-
-                                unit.unit = lastFormattedPartial;
-                                iterator.add(new Unit(word.substring(lastConcatPartial.length())));
-                                availableWidth -= lastFormattedPartialWidth;
-
-                                iterator.previous();
-
-                                return new LineAnalysis(startIndex, i + 1, availableWidth);
-                            }
+                        if (high >= 0) {
+                            float partialWidth = prefixWidths[hyphenBreaks[high] - start] + hyphenWidth;
+                            return new LineAnalysis(startIndex, i, hyphenBreaks[high],
+                                    prefixWidths[hyphenBreaks[high] - start], availableWidth - partialWidth);
                         }
                     }
                 }
 
                 // Redo this word on the next run
-                iterator.previous();
-
-                return new LineAnalysis(startIndex, i, availableWidth + spaceOffset);
+                return new LineAnalysis(startIndex, i, 0, 0, availableWidth + spaceOffset);
 
             }
             // Word fits in the line
@@ -472,7 +995,7 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
 
                 // NO remaining space
                 if (remainingWidth == 0) {
-                    return new LineAnalysis(startIndex, i + 1, availableWidth
+                    return new LineAnalysis(startIndex, i + 1, 0, 0, availableWidth
                             + spaceOffset);
                 }
             }
@@ -481,75 +1004,156 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
             i++;
         }
 
-        return new LineAnalysis(startIndex, i, availableWidth + spaceOffset);
+        return new LineAnalysis(startIndex, i, 0, 0, availableWidth + spaceOffset);
     }
 
-    private static abstract class Token {
+    /**
+     * Growable token arrays for a run of paragraphs
+     */
+    private static class MeasureResult {
 
-        public int lineNumber;
+        public int[] tokens = new int[TOKEN_LENGTH * 256];
+        public float[] positions = new float[POSITION_LENGTH * 256];
+        public int count;
+        public int lineCount;
         public float y;
+        public boolean done = true;
+        public int[] hyphenBreaks = new int[16];
+        public float[] prefixWidths = new float[64];
+        private CharBuffer text;
+
+        /**
+         * Writes the hyphen breaks of a word to hyphenBreaks and returns their count
+         */
+        public int hyphenate(IOffsetHyphenator hyphenator, char[] chars, int start, int end) {
+            if (text == null || text.array() != chars) {
+                text = CharBuffer.wrap(chars);
+            }
 
-        public Token(int lineNumber, float y) {
-            this.lineNumber = lineNumber;
-            this.y = y;
-        }
+            int count;
+            while ((count = hyphenator.hyphenate(text, start, end, hyphenBreaks)) > hyphenBreaks.length) {
+                hyphenBreaks = new int[count];
+            }
 
-        public float getY() {
-            return y;
+            return count;
         }
 
-        public int getLineNumber() {
-            return lineNumber;
-        }
+        /**
+         * Widths of the prefixes of a word, the first n characters at n,
+         * from a single pass over its character advances
+         */
+        public float[] measurePrefixes(Paint paint, char[] chars, int start, int end) {
+            int count = end - start;
 
-        abstract void draw(Canvas canvas, float offsetY, Paint paint, LayoutParams params);
-    }
+            if (prefixWidths.length <= count) {
+                prefixWidths = new float[Math.max(count + 1, prefixWidths.length * 2)];
+            }
 
-    private static class Unit extends Token {
+            paint.getTextWidths(chars, start, count, prefixWidths);
 
-        public float x;
-        public String unit;
+            float width = 0;
+            for (int i = 0; i < count; i++) {
+                float advance = prefixWidths[i];
+                prefixWidths[i] = width;
+                width += advance;
+            }
+            prefixWidths[count] = width;
 
-        public Unit(String unit) {
-            super(0, 0);
-            this.unit = unit;
+            return prefixWidths;
         }
 
-        public Unit(int lineNumber, float x, float y, String unit) {
-            super(lineNumber, y);
-            this.x = x;
-            this.unit = unit;
-        }
+        public void push(int start, int end, int line, int flags, float x, float y, float width) {
+            if (count * TOKEN_LENGTH >= tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokens.length * 2);
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
 
-        @Override
-        void draw(Canvas canvas, float offsetY, Paint paint, LayoutParams params) {
-            canvas.drawText(unit, x + params.getOffsetX(), y + params.getOffsetY() + offsetY, paint);
+            tokens[count * TOKEN_LENGTH + TOKEN_START] = start;
+            tokens[count * TOKEN_LENGTH + TOKEN_END] = end;
+            tokens[count * TOKEN_LENGTH + TOKEN_LINE] = line;
+            tokens[count * TOKEN_LENGTH + TOKEN_FLAGS] = flags;
+            positions[count * POSITION_LENGTH + POSITION_X] = x;
+            positions[count * POSITION_LENGTH + POSITION_Y] = y;
+            positions[count * POSITION_LENGTH + POSITION_WIDTH] = width;
+            count++;
         }
 
-        @Override
-        public String toString() {
-            return unit;
+        /**
+         * Adds the tokens of a later run, moved down to the next line
+         */
+        public void append(MeasureResult result, int maxLines) {
+            for (int i = 0; i < result.count; i++) {
+                int line = lineCount + result.tokens[i * TOKEN_LENGTH + TOKEN_LINE];
+
+                if (line >= maxLines) {
+                    break;
+                }
+
+                push(result.tokens[i * TOKEN_LENGTH + TOKEN_START], result.tokens[i * TOKEN_LENGTH + TOKEN_END],
+                        line, result.tokens[i * TOKEN_LENGTH + TOKEN_FLAGS],
+                        result.positions[i * POSITION_LENGTH + POSITION_X], 0,
+                        result.positions[i * POSITION_LENGTH + POSITION_WIDTH]);
+            }
+
+            lineCount = Math.min(lineCount + result.lineCount, maxLines);
         }
     }
 
-    private static class LineBreak extends Token {
-        public LineBreak(int lineNumber, float y) {
-            super(lineNumber, y);
+    /**
+     * Measured tokens with the chars they index, drawn and cached as a whole
+     */
+    private static class StringLayoutResult extends LayoutResult {
+        public final char[] chars;
+        public final int[] tokens;
+        public final float[] positions;
+        public final int[] lineTokens;
+        public final float ascent;
+        public final float descent;
+
+        public StringLayoutResult(int lineCount, int measuredHeight, char[] chars, int[] tokens,
+                                  float[] positions, int[] lineTokens, float ascent, float descent) {
+            super(lineCount, measuredHeight);
+            this.chars = chars;
+            this.tokens = tokens;
+            this.positions = positions;
+            this.lineTokens = lineTokens;
+            this.ascent = ascent;
+            this.descent = descent;
         }
 
-        @Override
-        void draw(Canvas canvas, float offsetY, Paint paint, LayoutParams params) {
+        public int getLineForVertical(float y, float top) {
+            if (lineCount == 0) {
+                return 0;
+            }
+
+            // Lines are evenly spaced, only rounding is left to correct
+            float lineHeight = ascent + descent;
+            int line = lineHeight > 0 ?
+                    (int) Math.min(Math.max((y - top) / lineHeight, 0), lineCount - 1) : 0;
+
+            while (line > 0 && getLineTop(line, top) > y) {
+                line--;
+            }
+
+            while (line + 1 < lineCount && getLineTop(line + 1, top) <= y) {
+                line++;
+            }
+
+            return line;
         }
 
-        @Override
-        public String toString() {
-            return "\n";
+        public float getLineTop(int line, float top) {
+            line = Math.max(0, Math.min(line, lineCount));
+
+            if (line == lineCount) {
+                return lineCount == 0 ? top : getLineBaseline(line - 1) + descent;
+            }
+
+            return getLineBaseline(line) - ascent;
         }
-    }
 
-    private static class SingleLine extends Unit {
-        public SingleLine(int lineNumber, float x, float y, String unit) {
-            super(lineNumber, x, y, unit);
+        public float getLineBaseline(int line) {
+            return positions[lineTokens[line] * POSITION_LENGTH + POSITION_Y];
         }
     }
 
@@ -569,11 +1173,16 @@ public abstract class StringDocumentLayout extends IDocumentLayout {
 
         public int start;
         public int end;
+        public int hyphenEnd;
+        // Width of the word up to hyphenEnd, the hyphen is drawn after it
+        public float hyphenStartWidth;
         public float remainWidth;
 
-        public LineAnalysis(int start, int end, float remainWidth) {
+        public LineAnalysis(int start, int end, int hyphenEnd, float hyphenStartWidth, float remainWidth) {
             this.start = start;
             this.end = end;
+            this.hyphenEnd = hyphenEnd;
+            this.hyphenStartWidth = hyphenStartWidth;
             this.remainWidth = remainWidth;
         }
     }
@@ -43,9 +43,26 @@ public class Styled {
                                         TextPaint workPaint,
                                         boolean needWidth) {
 
+        return drawUniformRun(canvas, text, start, end, dir, runIsRtl, x, top, y, bottom, fmi,
+                paint, workPaint, needWidth, text.getSpans(start, end, CharacterStyle.class));
+    }
+
+    /**
+     * Same as above, with the CharacterStyle spans of the run already known
+     */
+    /* package */
+    static float drawUniformRun(Canvas canvas,
+                                Spanned text, int start, int end,
+                                int dir, boolean runIsRtl,
+                                float x, int top, int y, int bottom,
+                                Paint.FontMetricsInt fmi,
+                                TextPaint paint,
+                                TextPaint workPaint,
+                                boolean needWidth,
+                                CharacterStyle[] spans) {
+
         boolean haveWidth = false;
         float ret = 0;
-        CharacterStyle[] spans = text.getSpans(start, end, CharacterStyle.class);
 
         ReplacementSpan replacement = null;
 
@@ -128,7 +145,7 @@ public class Styled {
                 }
             } else {
                 if (needWidth && !haveWidth) {
-                    ret = workPaint.measureText(tmp, tmpstart, tmpend);
+                    ret = AdvanceCache.measureText(workPaint, tmp, tmpstart, tmpend);
                     haveWidth = true;
                 }
             }
@@ -252,7 +269,7 @@ public class Styled {
                 }
             } else {
                 if (needWidth) {
-                    ret = paint.measureText(text, start, end);
+                    ret = AdvanceCache.measureText(paint, text, start, end);
                 }
 
                 if (canvas != null) {
@@ -0,0 +1,234 @@
+package com.bluejamesbond.text.hyphen;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * CachedHyphenator.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of the breaks of another hyphenator, keyed by the
+ * lowercase word, so relayouts don't hyphenate the same words again
+ */
+public class CachedHyphenator implements IHyphenator, IOffsetHyphenator {
+
+    private static final int DEFAULT_MAX_SIZE = 4096;
+    private static final int[] NO_BREAKS = new int[0];
+
+    private final IHyphenator hyphenator;
+    private final IOffsetHyphenator offsetHyphenator;
+    private final LinkedHashMap<Key, int[]> cache;
+    private final Key lookup;
+    private int maxSize;
+    private long hits;
+    private long misses;
+
+    public CachedHyphenator(IHyphenator hyphenator) {
+        this(hyphenator, DEFAULT_MAX_SIZE);
+    }
+
+    public CachedHyphenator(IHyphenator hyphenator, int maxSize) {
+        this.hyphenator = hyphenator;
+        this.offsetHyphenator = HyphenatorAdapter.getInstance(hyphenator);
+        this.cache = new LinkedHashMap<Key, int[]>(256, 0.75f, true);
+        this.lookup = new Key();
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    @Override
+    public List<String> hyphenate(String word) {
+
+        int[] breaks = new int[word.length()];
+        int count = hyphenate(word, 0, word.length(), breaks);
+
+        List<String> result = new ArrayList<String>();
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            result.add(word.substring(start, breaks[i]));
+            start = breaks[i];
+        }
+        if (start < word.length()) {
+            result.add(word.substring(start));
+        }
+        return result;
+    }
+
+    @Override
+    public int hyphenate(CharSequence text, int start, int end, int[] breaks) {
+
+        int[] found;
+
+        synchronized (this) {
+            lookup.set(text, start, end);
+            found = cache.get(lookup);
+
+            if (found != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+
+        if (found == null) {
+            found = find(text, start, end);
+            put(text, start, end, found);
+        }
+
+        // Cached breaks are relative to the start of the word
+        for (int i = 0; i < found.length && i < breaks.length; i++) {
+            breaks[i] = start + found[i];
+        }
+
+        return found.length;
+    }
+
+    private int[] find(CharSequence text, int start, int end) {
+        int[] breaks = new int[Math.max(1, end - start)];
+        int count;
+
+        while ((count = offsetHyphenator.hyphenate(text, start, end, breaks)) > breaks.length) {
+            breaks = new int[count];
+        }
+
+        if (count == 0) {
+            return NO_BREAKS;
+        }
+
+        int[] found = new int[count];
+        for (int i = 0; i < count; i++) {
+            found[i] = breaks[i] - start;
+        }
+        return found;
+    }
+
+    private synchronized void put(CharSequence text, int start, int end, int[] found) {
+        if (maxSize == 0) {
+            return;
+        }
+
+        Key key = new Key();
+        key.set(text, start, end);
+        cache.put(key, found);
+        trimToSize();
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<Key, int[]>> iterator = cache.entrySet().iterator();
+
+        while (cache.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public IHyphenator getHyphenator() {
+        return hyphenator;
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Most words to keep, 0 turns the cache off
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        trimToSize();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    private static class Key {
+
+        private char[] chars = new char[0];
+        private int count;
+        private int hash;
+
+        public void set(CharSequence text, int start, int end) {
+            count = end - start;
+
+            if (chars.length < count) {
+                chars = new char[Math.max(count, chars.length * 2)];
+            }
+
+            // Lowercase each char on its own, so offsets stay the same
+            int hash = 0;
+            for (int i = 0; i < count; i++) {
+                chars[i] = Character.toLowerCase(text.charAt(start + i));
+                hash = 31 * hash + chars[i];
+            }
+
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            if (hash != key.hash || count != key.count) {
+                return false;
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (chars[i] != key.chars[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
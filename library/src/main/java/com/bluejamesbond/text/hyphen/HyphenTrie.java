@@ -0,0 +1,346 @@
+package com.bluejamesbond.text.hyphen;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * HyphenTrie.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable pattern trie in flat sections. Nodes are numbered breadth first,
+ * so the edges of each node are a sorted run of code points for a binary
+ * search and edge e leads to node e + 1. The points of all nodes share one
+ * byte pool. A walk neither boxes nor allocates. The same sections, behind a
+ * header, are the file format, so a compiled trie is walked in place through
+ * views of the mapped file instead of being parsed or copied into the heap.
+ */
+final class HyphenTrie {
+
+    private static final int MAGIC = 0x48595054;
+    private static final int VERSION = 1;
+
+    // Header ints, followed by the edge starts and point starts of each node
+    // and one past the last, the edge code points and the point pool
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 1;
+    private static final int HEADER_LEFT_MIN = 2;
+    private static final int HEADER_RIGHT_MIN = 3;
+    private static final int HEADER_NODES = 4;
+    private static final int HEADER_POINTS = 5;
+    private static final int HEADER_LENGTH = 6;
+
+    private final int leftMin;
+    private final int rightMin;
+    private final IntBuffer edgeStarts;
+    private final IntBuffer pointStarts;
+    private final IntBuffer edgeCodePoints;
+    private final ByteBuffer pointPool;
+
+    private HyphenTrie(int leftMin, int rightMin, IntBuffer edgeStarts, IntBuffer pointStarts,
+                       IntBuffer edgeCodePoints, ByteBuffer pointPool) {
+        this.leftMin = leftMin;
+        this.rightMin = rightMin;
+        this.edgeStarts = edgeStarts;
+        this.pointStarts = pointStarts;
+        this.edgeCodePoints = edgeCodePoints;
+        this.pointPool = pointPool;
+    }
+
+    private static int getLength(int nodes, int points) {
+        return HEADER_LENGTH * 4 + (nodes + 1) * 8 + (nodes - 1) * 4 + points;
+    }
+
+    /**
+     * Parses the patterns, keyed by their length, into a trie
+     */
+    static HyphenTrie create(Map<Integer, String> patternObject, int leftMin, int rightMin) {
+
+        Node t, tree = new Node();
+        int nodeCount = 1;
+        int pointCount = 0;
+
+        for (Map.Entry<Integer, String> entry : patternObject.entrySet()) {
+            int key = entry.getKey();
+            String value = entry.getValue();
+
+            int numPatterns = value.length() / key;
+            for (int i = 0; i < numPatterns; i++) {
+                String pattern = value.substring(i * key, (i + 1) * key);
+                t = tree;
+
+                for (int c = 0; c < pattern.length(); c++) {
+                    char chr = pattern.charAt(c);
+                    if (Character.isDigit(chr)) {
+                        continue;
+                    }
+                    int codePoint = pattern.codePointAt(c);
+                    Node next = t.children.get(codePoint);
+                    if (next == null) {
+                        next = new Node();
+                        t.children.put(codePoint, next);
+                        nodeCount++;
+                    }
+                    t = next;
+                }
+
+                List<Integer> list = new ArrayList<Integer>();
+                int digitStart = -1;
+                for (int p = 0; p < pattern.length(); p++) {
+                    if (Character.isDigit(pattern.charAt(p))) {
+                        if (digitStart < 0) {
+                            digitStart = p;
+                        }
+                        if (p == pattern.length() - 1) {
+                            // last number in the pattern
+                            String number = pattern.substring(digitStart, pattern.length());
+                            list.add(Integer.valueOf(number));
+                        }
+                    } else if (digitStart >= 0) {
+                        // we reached the end of the current number
+                        String number = pattern.substring(digitStart, p);
+                        list.add(Integer.valueOf(number));
+                        digitStart = -1;
+                    } else {
+                        list.add(0);
+                    }
+                }
+
+                pointCount += list.size() - (t.points == null ? 0 : t.points.length);
+                t.points = new int[list.size()];
+                for (int k = 0; k < list.size(); k++) {
+                    t.points[k] = list.get(k);
+                }
+            }
+        }
+
+        return flatten(tree, nodeCount, pointCount, leftMin, rightMin);
+    }
+
+    /**
+     * Copies the tree into arrays in breadth first order
+     */
+    private static HyphenTrie flatten(Node tree, int nodeCount, int pointCount, int leftMin, int rightMin) {
+        int[] edgeStarts = new int[nodeCount + 1];
+        int[] pointStarts = new int[nodeCount + 1];
+        int[] edgeCodePoints = new int[nodeCount - 1];
+        byte[] pointPool = new byte[pointCount];
+        Node[] queue = new Node[nodeCount];
+        queue[0] = tree;
+
+        for (int node = 0, edge = 0, point = 0; node < nodeCount; node++) {
+            Node n = queue[node];
+            edgeStarts[node] = edge;
+            pointStarts[node] = point;
+
+            for (Map.Entry<Integer, Node> child : n.children.entrySet()) {
+                edgeCodePoints[edge] = child.getKey();
+                queue[++edge] = child.getValue();
+            }
+
+            if (n.points != null) {
+                for (int value : n.points) {
+                    pointPool[point++] = (byte) value;
+                }
+            }
+
+            // The tree can go now
+            queue[node] = null;
+        }
+
+        edgeStarts[nodeCount] = nodeCount - 1;
+        pointStarts[nodeCount] = pointCount;
+
+        return new HyphenTrie(leftMin, rightMin, IntBuffer.wrap(edgeStarts), IntBuffer.wrap(pointStarts),
+                IntBuffer.wrap(edgeCodePoints), ByteBuffer.wrap(pointPool));
+    }
+
+    /**
+     * Uses a trie written by write(), e.g. a mapped file, without copying it.
+     * The trie keeps views of the buffer, so it stays mapped while in use.
+     */
+    static HyphenTrie read(ByteBuffer buffer) throws IOException {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        if (data.limit() < HEADER_LENGTH * 4 || data.getInt(HEADER_MAGIC * 4) != MAGIC ||
+                data.getInt(HEADER_VERSION * 4) != VERSION) {
+            throw new IOException("Not a compiled hyphenation trie");
+        }
+
+        int nodes = data.getInt(HEADER_NODES * 4);
+        int points = data.getInt(HEADER_POINTS * 4);
+
+        if (nodes < 1 || points < 0 || data.limit() != getLength(nodes, points)) {
+            throw new IOException("Truncated hyphenation trie");
+        }
+
+        int edgeStarts = HEADER_LENGTH * 4;
+        int pointStarts = edgeStarts + (nodes + 1) * 4;
+        int edgeCodePoints = pointStarts + (nodes + 1) * 4;
+        int pointPool = edgeCodePoints + (nodes - 1) * 4;
+
+        return new HyphenTrie(data.getInt(HEADER_LEFT_MIN * 4), data.getInt(HEADER_RIGHT_MIN * 4),
+                slice(data, edgeStarts, pointStarts).asIntBuffer(),
+                slice(data, pointStarts, edgeCodePoints).asIntBuffer(),
+                slice(data, edgeCodePoints, pointPool).asIntBuffer(),
+                slice(data, pointPool, data.limit()));
+    }
+
+    private static ByteBuffer slice(ByteBuffer data, int start, int end) {
+        ByteBuffer section = data.duplicate();
+        section.limit(end);
+        section.position(start);
+        return section.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void write(OutputStream out) throws IOException {
+        int nodes = edgeStarts.limit() - 1;
+        int points = pointPool.limit();
+        ByteBuffer data = ByteBuffer.allocate(getLength(nodes, points)).order(ByteOrder.LITTLE_ENDIAN);
+
+        data.putInt(MAGIC);
+        data.putInt(VERSION);
+        data.putInt(leftMin);
+        data.putInt(rightMin);
+        data.putInt(nodes);
+        data.putInt(points);
+
+        IntBuffer ints = data.asIntBuffer();
+        ints.put(edgeStarts.duplicate());
+        ints.put(pointStarts.duplicate());
+        ints.put(edgeCodePoints.duplicate());
+
+        data.position(data.position() + ints.position() * 4);
+        data.put(pointPool.duplicate());
+
+        out.write(data.array());
+    }
+
+    int getLeftMin() {
+        return leftMin;
+    }
+
+    int getRightMin() {
+        return rightMin;
+    }
+
+    /**
+     * Returns the child of the node for the code point, or -1
+     */
+    private int getChild(int node, int codePoint) {
+        IntBuffer edgeCodePoints = this.edgeCodePoints;
+        int low = edgeStarts.get(node);
+        int high = edgeStarts.get(node + 1) - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midCodePoint = edgeCodePoints.get(mid);
+
+            if (midCodePoint < codePoint) {
+                low = mid + 1;
+            } else if (midCodePoint > codePoint) {
+                high = mid - 1;
+            } else {
+                return mid + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Raises points[i + k] to the k-th point of every pattern matching
+     * the code points from i on, for each i below count
+     */
+    void match(int[] codePoints, int count, int[] points) {
+        IntBuffer pointStarts = this.pointStarts;
+        ByteBuffer pointPool = this.pointPool;
+
+        for (int i = 0; i < count; i++) {
+            int node = 0;
+
+            for (int j = i; j < count; j++) {
+                node = getChild(node, codePoints[j]);
+
+                if (node < 0) {
+                    break;
+                }
+
+                int end = pointStarts.get(node + 1);
+                for (int k = pointStarts.get(node), p = i; k < end; k++, p++) {
+                    points[p] = Math.max(points[p], pointPool.get(k));
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the built-in patterns into the directory given as the first
+     * argument, run by the library's generateHyphenTries task
+     */
+    public static void main(String[] args) throws IOException {
+        File dir = new File(args[0]);
+
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Can't create " + dir);
+        }
+
+        write(new File(dir, "de.trie"), HyphenPatterns.DE, HyphenPatterns.DE_LEFT_MIN, HyphenPatterns.DE_RIGHT_MIN);
+        write(new File(dir, "en_us.trie"), HyphenPatterns.EN_US, HyphenPatterns.EN_US_LEFT_MIN,
+                HyphenPatterns.EN_US_RIGHT_MIN);
+        write(new File(dir, "pt.trie"), HyphenPatterns.PT, HyphenPatterns.PT_LEFT_MIN, HyphenPatterns.PT_RIGHT_MIN);
+    }
+
+    private static void write(File file, Map<Integer, String> patternObject, int leftMin, int rightMin)
+            throws IOException {
+        OutputStream out = new FileOutputStream(file);
+
+        try {
+            create(patternObject, leftMin, rightMin).write(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Mutable node, only used while building
+     */
+    private static class Node {
+        TreeMap<Integer, Node> children = new TreeMap<Integer, Node>();
+        int[] points;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bluejamesbond.text.hyphen;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * HyphenatorAdapter.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import java.util.List;
+
+/**
+ * Break offsets of a hyphenator that only returns the pieces of a word
+ */
+public class HyphenatorAdapter implements IOffsetHyphenator {
+
+    private final IHyphenator hyphenator;
+
+    private HyphenatorAdapter(IHyphenator hyphenator) {
+        this.hyphenator = hyphenator;
+    }
+
+    /**
+     * Returns the hyphenator itself if it writes offsets, or an adapter
+     */
+    public static IOffsetHyphenator getInstance(IHyphenator hyphenator) {
+        if (hyphenator instanceof IOffsetHyphenator) {
+            return (IOffsetHyphenator) hyphenator;
+        }
+
+        return new HyphenatorAdapter(hyphenator);
+    }
+
+    @Override
+    public int hyphenate(CharSequence text, int start, int end, int[] breaks) {
+        List<String> partials = hyphenator.hyphenate(text.subSequence(start, end).toString());
+        int count = 0;
+        int last = start;
+
+        // Every piece but the last ends at a break, empty ones don't
+        for (int i = 0, offset = start; i < partials.size() - 1; i++) {
+            offset = Math.min(end, offset + partials.get(i).length());
+
+            if (offset > last && offset < end) {
+                if (count < breaks.length) {
+                    breaks[count] = offset;
+                }
+                count++;
+                last = offset;
+            }
+        }
+
+        return count;
+    }
+}
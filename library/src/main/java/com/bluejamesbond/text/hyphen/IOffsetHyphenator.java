@@ -0,0 +1,44 @@
+package com.bluejamesbond.text.hyphen;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * IOffsetHyphenator.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+/**
+ * Hyphenates without allocating, by writing where a word can break
+ * instead of returning its pieces
+ */
+public interface IOffsetHyphenator {
+
+    /**
+     * Writes the offsets in the text between start and end where the word
+     * can break into breaks, in order, and returns how many there are. If
+     * there are more than fit, only the first breaks.length are written.
+     */
+    int hyphenate(CharSequence text, int start, int end, int[] breaks);
+}
@@ -32,7 +32,7 @@ package com.bluejamesbond.text.hyphen;
 import java.util.ArrayList;
 import java.util.List;
 
-public class SqueezeHyphenator implements IHyphenator {
+public class SqueezeHyphenator implements IHyphenator, IOffsetHyphenator {
 
     private static SqueezeHyphenator squeezeHyphenator;
 
@@ -63,4 +63,19 @@ public class SqueezeHyphenator implements IHyphenator {
 
         return broken;
     }
+
+    @Override
+    public int hyphenate(CharSequence text, int start, int end, int[] breaks) {
+
+        int count = 0;
+
+        for (int i = start + 2; i < end; i += 2) {
+            if (count < breaks.length) {
+                breaks[count] = i;
+            }
+            count++;
+        }
+
+        return count;
+    }
 }
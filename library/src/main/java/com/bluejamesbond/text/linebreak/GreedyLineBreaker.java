@@ -0,0 +1,86 @@
+package com.bluejamesbond.text.linebreak;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * GreedyLineBreaker.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+/**
+ * First-fit breaker, fills each line as far as it goes
+ */
+public class GreedyLineBreaker implements ILineBreaker {
+
+    private static GreedyLineBreaker greedyLineBreaker;
+
+    static {
+        greedyLineBreaker = new GreedyLineBreaker();
+    }
+
+    private GreedyLineBreaker() {
+    }
+
+    public static GreedyLineBreaker getInstance() {
+        return greedyLineBreaker;
+    }
+
+    @Override
+    public int breakLines(float[] widths, int[] breaks, int count, float spaceWidth,
+                          float hyphenWidth, float lineWidth, int[] lineEnds) {
+
+        int lines = 0;
+        int lineStart = 0;
+        int lastBreak = -1;
+        float x = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            // Width up to the end of this box, plus the hyphen if broken here
+            float end = x + widths[i];
+            float broken = breaks[i] == BREAK_HYPHEN ? end + hyphenWidth : end;
+
+            // Break at the last point that fit and redo from there
+            if (end > lineWidth && lastBreak >= lineStart) {
+                lineEnds[lines++] = lastBreak + 1;
+                lineStart = lastBreak + 1;
+                i = lastBreak;
+                x = 0;
+                continue;
+            }
+
+            // Too wide boxes get a line of their own
+            if (broken <= lineWidth || lastBreak < lineStart) {
+                lastBreak = i;
+            }
+
+            x = end + (breaks[i] == BREAK_SPACE ? spaceWidth : 0);
+        }
+
+        lineEnds[lines++] = count;
+
+        return lines;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bluejamesbond.text.linebreak;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * ILineBreaker.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+public interface ILineBreaker {
+
+    /**
+     * What follows a box: a space, a hyphenation point inside
+     * a word, or the end of the paragraph
+     */
+    public static final int BREAK_SPACE = 0;
+    public static final int BREAK_HYPHEN = 1;
+    public static final int BREAK_END = 2;
+
+    /**
+     * Breaks a paragraph of boxes (words, or pieces of words when hyphenated)
+     * into lines. Writes the exclusive box end of every line into lineEnds,
+     * which must hold at least count entries, and returns the line count.
+     * A box wider than the line gets a line of its own.
+     */
+    public int breakLines(float[] widths, int[] breaks, int count, float spaceWidth,
+                          float hyphenWidth, float lineWidth, int[] lineEnds);
+}
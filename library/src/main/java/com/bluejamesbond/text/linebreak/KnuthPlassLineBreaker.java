@@ -0,0 +1,180 @@
+package com.bluejamesbond.text.linebreak;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * KnuthPlassLineBreaker.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+/**
+ * Total-fit breaker in the style of Knuth and Plass. Chooses the breaks that
+ * keep the word gaps of the whole paragraph even, instead of filling each line
+ * as far as it goes. Spaces may only stretch, since justified lines never
+ * squeeze them.
+ * <p/>
+ * Only line starts whose line still fits are kept active, which bounds the
+ * window to about one line of boxes, and the active list is capped so long
+ * paragraphs stay linear.
+ */
+public class KnuthPlassLineBreaker implements ILineBreaker {
+
+    private static final int DEFAULT_MAX_ACTIVE = 32;
+    private static final float MAX_BADNESS = 10000;
+    private static final float LINE_PENALTY = 10;
+    private static final float HYPHEN_PENALTY = 50;
+    private static final float DOUBLE_HYPHEN_DEMERITS = 3000;
+
+    private int maxActive;
+
+    public KnuthPlassLineBreaker() {
+        this(DEFAULT_MAX_ACTIVE);
+    }
+
+    /**
+     * @param maxActive most line starts kept at once, the worst are dropped first
+     */
+    public KnuthPlassLineBreaker(int maxActive) {
+        this.maxActive = Math.max(1, maxActive);
+    }
+
+    @Override
+    public int breakLines(float[] widths, int[] breaks, int count, float spaceWidth,
+                          float hyphenWidth, float lineWidth, int[] lineEnds) {
+
+        // Box widths and spaces before each box
+        float[] sumWidths = new float[count + 1];
+        int[] sumSpaces = new int[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            sumWidths[i + 1] = sumWidths[i] + widths[i];
+            sumSpaces[i + 1] = sumSpaces[i] + (breaks[i] == BREAK_SPACE ? 1 : 0);
+        }
+
+        // Best demerits of a line starting at each box, and
+        // where the line before it started
+        float[] best = new float[count + 1];
+        int[] previous = new int[count + 1];
+        int[] active = new int[maxActive + 1];
+        int activeCount = 1;
+
+        best[0] = 0;
+        active[0] = 0;
+
+        for (int i = 1; i <= count; i++) {
+            best[i] = Float.POSITIVE_INFINITY;
+        }
+
+        for (int end = 0; end < count; end++) {
+
+            boolean last = end == count - 1;
+
+            // Line can only end at a space or hyphenation point
+            if (!last && breaks[end] != BREAK_SPACE && breaks[end] != BREAK_HYPHEN) {
+                continue;
+            }
+
+            boolean hyphen = !last && breaks[end] == BREAK_HYPHEN;
+
+            for (int k = 0; k < activeCount; k++) {
+                int start = active[k];
+                int spaces = sumSpaces[end] - sumSpaces[start];
+                float natural = sumWidths[end + 1] - sumWidths[start] + spaces * spaceWidth +
+                        (hyphen ? hyphenWidth : 0);
+                float slack = lineWidth - natural;
+
+                // Overfull, and only gets worse further on
+                if (slack < 0 && start < end) {
+                    active[k--] = active[--activeCount];
+                    continue;
+                }
+
+                float badness;
+
+                if (last || slack <= 0) {
+                    badness = 0;
+                } else if (spaces == 0) {
+                    badness = MAX_BADNESS;
+                } else {
+                    float ratio = slack / (spaces * spaceWidth);
+                    badness = Math.min(100 * ratio * ratio * ratio, MAX_BADNESS);
+                }
+
+                float demerits = (LINE_PENALTY + badness) * (LINE_PENALTY + badness);
+
+                if (hyphen) {
+                    demerits += HYPHEN_PENALTY * HYPHEN_PENALTY;
+
+                    if (start > 0 && breaks[start - 1] == BREAK_HYPHEN) {
+                        demerits += DOUBLE_HYPHEN_DEMERITS;
+                    }
+                }
+
+                demerits += best[start];
+
+                if (demerits < best[end + 1]) {
+                    best[end + 1] = demerits;
+                    previous[end + 1] = start;
+                }
+            }
+
+            if (last || best[end + 1] == Float.POSITIVE_INFINITY) {
+                continue;
+            }
+
+            // Drop the worst older line start to stay in the window. The
+            // newest is always kept so a too wide box can still be placed
+            if (activeCount == maxActive) {
+                int worst = 0;
+
+                for (int k = 1; k < activeCount; k++) {
+                    if (best[active[k]] > best[active[worst]]) {
+                        worst = k;
+                    }
+                }
+
+                active[worst] = active[--activeCount];
+            }
+
+            active[activeCount++] = end + 1;
+        }
+
+        // Walk back from the end of the paragraph
+        int lines = 0;
+
+        for (int end = count; end > 0; end = previous[end]) {
+            lineEnds[lines++] = end;
+        }
+
+        // In order
+        for (int i = 0, j = lines - 1; i < j; i++, j--) {
+            int swap = lineEnds[i];
+            lineEnds[i] = lineEnds[j];
+            lineEnds[j] = swap;
+        }
+
+        return lines;
+    }
+}
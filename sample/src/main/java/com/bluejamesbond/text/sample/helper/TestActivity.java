@@ -128,7 +128,7 @@ public class TestActivity extends Activity {
             cacheButton.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View view) {
-                    cacheConfig = (cacheConfig + 1) % 5;
+                    cacheConfig = (cacheConfig + 1) % DocumentView.CacheConfig.values().length;
                     DocumentView.CacheConfig newCacheConfig = DocumentView.CacheConfig.getById(cacheConfig);
                     cacheConfigToast.setText("Activated " + newCacheConfig.name());
                     cacheConfigToast.show();
@@ -32,6 +32,7 @@ package com.bluejamesbond.text.sample.test;
 import android.os.Bundle;
 
 import com.bluejamesbond.text.DocumentView;
+import com.bluejamesbond.text.hyphen.CachedHyphenator;
 import com.bluejamesbond.text.hyphen.DefaultHyphenator;
 import com.bluejamesbond.text.hyphen.DefaultHyphenator.HyphenPattern;
 import com.bluejamesbond.text.sample.helper.TestActivity;
@@ -51,7 +52,8 @@ public class HyphenatedTest extends TestActivity {
                 .toString(), DocumentView.PLAIN_TEXT);
 
         documentView.getDocumentLayoutParams().setTextAlignment(TextAlignment.JUSTIFIED);
-        documentView.getDocumentLayoutParams().setHyphenator(DefaultHyphenator.getInstance(HyphenPattern.PT));
+        documentView.getDocumentLayoutParams().setHyphenator(
+                new CachedHyphenator(DefaultHyphenator.getInstance(HyphenPattern.PT)));
         documentView.getDocumentLayoutParams().setHyphenated(true);
     }
 }
@@ -0,0 +1,160 @@
+package com.bluejamesbond.text.sample.test;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * LineBreakerBenchmarkTest.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import android.os.AsyncTask;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.text.TextPaint;
+
+import com.bluejamesbond.text.AdvanceCache;
+import com.bluejamesbond.text.DocumentView;
+import com.bluejamesbond.text.IDocumentLayout;
+import com.bluejamesbond.text.StringDocumentLayout;
+import com.bluejamesbond.text.hyphen.DefaultHyphenator;
+import com.bluejamesbond.text.hyphen.DefaultHyphenator.HyphenPattern;
+import com.bluejamesbond.text.linebreak.GreedyLineBreaker;
+import com.bluejamesbond.text.linebreak.ILineBreaker;
+import com.bluejamesbond.text.linebreak.KnuthPlassLineBreaker;
+import com.bluejamesbond.text.sample.R;
+import com.bluejamesbond.text.sample.helper.TestActivity;
+
+/**
+ * Measures a 50k word document with each line breaker. Every breaker gets
+ * one untimed run to warm up, then the best of the timed runs is shown,
+ * each starting with an empty AdvanceCache.
+ */
+public class LineBreakerBenchmarkTest extends TestActivity {
+
+    private static final int WORDS = 50000;
+    private static final int RUNS = 3;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        final String paragraph = getResources().getString(R.string.plain_text);
+        final int width = getResources().getDisplayMetrics().widthPixels;
+
+        StringBuilder text = new StringBuilder();
+        int paragraphWords = paragraph.split(" ").length;
+
+        for (int words = 0; words < WORDS; words += paragraphWords) {
+            text.append(paragraph).append('\n');
+        }
+
+        // Layouts make a Toast, which needs the UI thread, so only measure() runs in the background
+        final StringDocumentLayout[] fit = createLayouts(text, null, width);
+        final StringDocumentLayout[] greedy = createLayouts(text, GreedyLineBreaker.getInstance(), width);
+        final StringDocumentLayout[] knuthPlass = createLayouts(text, new KnuthPlassLineBreaker(), width);
+
+        new AsyncTask<Void, Void, String>() {
+            @Override
+            protected String doInBackground(Void... params) {
+                return "Best of " + RUNS + " runs after a warm-up, each with an empty advance cache\n" +
+                        "Greedy fit(), hyphenates only words that overflow a line: " + measure(fit) + "ms\n" +
+                        "GreedyLineBreaker, hyphenates every word: " + measure(greedy) + "ms\n" +
+                        "KnuthPlassLineBreaker, hyphenates every word: " + measure(knuthPlass) + "ms\n\n" +
+                        paragraph;
+            }
+
+            @Override
+            protected void onPostExecute(String result) {
+                DocumentView documentView = addDocumentView(result, DocumentView.PLAIN_TEXT);
+                documentView.getDocumentLayoutParams().setHyphenator(DefaultHyphenator.getInstance(HyphenPattern.EN_US));
+                documentView.getDocumentLayoutParams().setHyphenated(true);
+                documentView.getDocumentLayoutParams().setLineBreaker(new KnuthPlassLineBreaker());
+            }
+        }.execute();
+    }
+
+    /**
+     * Returns one fresh layout per run plus one to warm up, since a measured
+     * layout would restore its cached result instead of measuring again
+     */
+    private StringDocumentLayout[] createLayouts(CharSequence text, ILineBreaker lineBreaker, int width) {
+        StringDocumentLayout[] layouts = new StringDocumentLayout[RUNS + 1];
+
+        for (int i = 0; i < layouts.length; i++) {
+            layouts[i] = new StringDocumentLayout(this, new TextPaint()) {
+                @Override
+                public void onLayoutParamsChange() {
+                }
+
+                @Override
+                public void onTextChange() {
+                }
+            };
+
+            layouts[i].getLayoutParams().setParentWidth(width);
+            layouts[i].getLayoutParams().setHyphenator(DefaultHyphenator.getInstance(HyphenPattern.EN_US));
+            layouts[i].getLayoutParams().setHyphenated(true);
+            layouts[i].getLayoutParams().setLineBreaker(lineBreaker);
+            layouts[i].setText(text);
+        }
+
+        return layouts;
+    }
+
+    private long measure(StringDocumentLayout[] layouts) {
+        IDocumentLayout.IProgress<Float> progress = new IDocumentLayout.IProgress<Float>() {
+            @Override
+            public void onUpdate(Float val) {
+            }
+        };
+
+        IDocumentLayout.ICancel<Boolean> cancelled = new IDocumentLayout.ICancel<Boolean>() {
+            @Override
+            public Boolean isCancelled() {
+                return false;
+            }
+        };
+
+        long best = Long.MAX_VALUE;
+
+        for (int run = 0; run < layouts.length; run++) {
+            AdvanceCache.clear();
+
+            long start = SystemClock.uptimeMillis();
+            layouts[run].measure(progress, cancelled);
+            long time = SystemClock.uptimeMillis() - start;
+
+            // Run 0 only warms up
+            if (run > 0) {
+                best = Math.min(best, time);
+            }
+
+            // Let the measured tokens go
+            layouts[run] = null;
+        }
+
+        return best;
+    }
+}
@@ -73,7 +73,8 @@ public class LongFormattedTextTest extends TestActivity {
                     .append("“The announcements mark a dramatic escalation in measures designed to prevent the spread of Ebola in the United States. Previously, only individuals with symptoms of Ebola would be quarantined upon entry to the U.S. under a federal rule from the Centers for Diseases Control and the Department of Homeland Security.”",
                             true, new RelativeSizeSpan(1f), new RightSpan());
 
-        addDocumentView(ab,
+        DocumentView documentView = addDocumentView(ab,
                 DocumentView.FORMATTED_TEXT);
+        documentView.getDocumentLayoutParams().setProgressiveLayout(true);
     }
 }
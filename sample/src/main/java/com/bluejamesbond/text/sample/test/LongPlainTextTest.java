@@ -41,7 +41,9 @@ public class LongPlainTextTest extends TestActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
-        addDocumentView("Short sentence.\n\n" +
+        DocumentView documentView = addDocumentView("Short sentence.\n\n" +
                 getResources().getString(R.string.plain_text), DocumentView.PLAIN_TEXT);
+        documentView.getDocumentLayoutParams().setParallelMeasure(true);
+        documentView.getDocumentLayoutParams().setProgressiveLayout(true);
     }
 }
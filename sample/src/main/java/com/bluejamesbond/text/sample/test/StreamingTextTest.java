@@ -0,0 +1,77 @@
+package com.bluejamesbond.text.sample.test;
+
+/*
+ * Copyright 2015 Mathew Kurian
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ *
+ * StreamingTextTest.java
+ * @author Mathew Kurian
+ *
+ * From TextJustify-Android Library v2.0
+ * https://github.com/bluejamesbond/TextJustify-Android
+ *
+ * Please report any issues
+ * https://github.com/bluejamesbond/TextJustify-Android/issues
+ *
+ * Date: 1/27/15 3:35 AM
+ */
+
+import android.os.Bundle;
+
+import com.bluejamesbond.text.DocumentView;
+import com.bluejamesbond.text.sample.R;
+import com.bluejamesbond.text.sample.helper.TestActivity;
+
+import java.io.Reader;
+
+/**
+ * Streams a ~10 MB chapter into the view as if it was read from disk
+ */
+public class StreamingTextTest extends TestActivity {
+
+    private static final int CHAPTER_LENGTH = 10 * 1024 * 1024;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        final String paragraph = getResources().getString(R.string.plain_text) + "\n\n";
+
+        DocumentView documentView = addDocumentView("", DocumentView.PLAIN_TEXT);
+        documentView.setText(new Reader() {
+
+            private int position;
+
+            @Override
+            public int read(char[] buffer, int offset, int count) {
+                if (position >= CHAPTER_LENGTH) {
+                    return -1;
+                }
+
+                int start = position % paragraph.length();
+                int end = Math.min(paragraph.length(), start + count);
+
+                paragraph.getChars(start, end, buffer, offset);
+                position += end - start;
+                return end - start;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+}